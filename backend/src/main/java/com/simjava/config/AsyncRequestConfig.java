@@ -0,0 +1,56 @@
+package com.simjava.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Timeout request async.
+ *
+ * Endpoint lain memakai timeout bawaan container, tetapi ekspor ({@link StreamingResponseBody})
+ * bisa berjalan lebih lama untuk rentang data yang besar sehingga mendapat app.export.timeout.
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    @Value("${app.export.timeout:30m}")
+    private Duration exportTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // Dipanggil sebelum request async dimulai, saat timeout masih bisa diubah
+                if (request instanceof AsyncWebRequest && isStreamingHandler(request)) {
+                    ((AsyncWebRequest) request).setTimeout(exportTimeout.toMillis());
+                }
+            }
+        });
+    }
+
+    private static boolean isStreamingHandler(NativeWebRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (!(handler instanceof HandlerMethod)) {
+            return false;
+        }
+        ResolvableType type = ResolvableType.forMethodParameter(((HandlerMethod) handler).getReturnType());
+        if (ResponseEntity.class == type.resolve()) {
+            type = type.getGeneric(0);
+        }
+        return StreamingResponseBody.class.isAssignableFrom(type.toClass());
+    }
+}
@@ -0,0 +1,92 @@
+package com.simjava.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.simjava.security.FirebasePrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Cache configuration.
+ * The cache manager itself is auto-configured from spring.cache.*; caches that need
+ * their own expiry are registered here.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DASHBOARD_CACHE = "dashboard";
+    public static final String USER_DETAILS_CACHE = "userDetails";
+    public static final String FIREBASE_TOKEN_CACHE = "firebaseTokens";
+
+    @Value("${app.dashboard.cache-ttl:30s}")
+    private Duration dashboardCacheTtl;
+
+    @Value("${app.security.user-details-cache.ttl:5m}")
+    private Duration userDetailsCacheTtl;
+
+    @Value("${app.security.user-details-cache.maximum-size:10000}")
+    private long userDetailsCacheMaximumSize;
+
+    @Value("${app.firebase.token-cache.max-ttl:10m}")
+    private Duration firebaseTokenCacheMaxTtl;
+
+    @Value("${app.firebase.token-cache.maximum-size:10000}")
+    private long firebaseTokenCacheMaximumSize;
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> caffeineCacheManagerCustomizer() {
+        // recordStats() exposes hit/miss counts as cache.gets metrics through the actuator
+        return cacheManager -> {
+            cacheManager.registerCustomCache(DASHBOARD_CACHE, Caffeine.newBuilder()
+                    .expireAfterWrite(dashboardCacheTtl)
+                    .maximumSize(200)
+                    .recordStats()
+                    .build());
+            cacheManager.registerCustomCache(USER_DETAILS_CACHE, Caffeine.newBuilder()
+                    .expireAfterWrite(userDetailsCacheTtl)
+                    .maximumSize(userDetailsCacheMaximumSize)
+                    .recordStats()
+                    .build());
+            // Entri token hidup sampai token kedaluwarsa, dibatasi max-ttl
+            cacheManager.registerCustomCache(FIREBASE_TOKEN_CACHE, Caffeine.newBuilder()
+                    .expireAfter(new Expiry<Object, Object>() {
+                        @Override
+                        public long expireAfterCreate(Object key, Object value, long currentTime) {
+                            return firebaseTokenTtl(value).toNanos();
+                        }
+
+                        @Override
+                        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                            return firebaseTokenTtl(value).toNanos();
+                        }
+
+                        @Override
+                        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                            return currentDuration;
+                        }
+                    })
+                    .maximumSize(firebaseTokenCacheMaximumSize)
+                    .recordStats()
+                    .build());
+        };
+    }
+
+    private Duration firebaseTokenTtl(Object value) {
+        if (!(value instanceof FirebasePrincipal)) {
+            return firebaseTokenCacheMaxTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), ((FirebasePrincipal) value).getExpiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(firebaseTokenCacheMaxTtl) < 0 ? remaining : firebaseTokenCacheMaxTtl;
+    }
+}
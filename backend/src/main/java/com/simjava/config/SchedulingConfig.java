@@ -0,0 +1,12 @@
+package com.simjava.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Mengaktifkan @Scheduled (polling antrian job).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.simjava.config;
 
 import com.simjava.security.FirebaseAuthenticationFilter;
+import com.simjava.security.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,6 +26,9 @@ public class SecurityConfig {
     @Autowired
     private FirebaseAuthenticationFilter firebaseAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -36,7 +40,8 @@ public class SecurityConfig {
                         .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/notifications/token").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                .requestMatchers("/actuator/**").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // Endpoint yang memerlukan autentikasi
                 .requestMatchers("/dashboard/**").authenticated()
                 .requestMatchers("/students/**").authenticated()
@@ -48,7 +53,8 @@ public class SecurityConfig {
                 .requestMatchers("/notifications/topic/**").authenticated()
                         .anyRequest().authenticated()
             )
-            .addFilterBefore(firebaseAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(firebaseAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, FirebaseAuthenticationFilter.class);
 
         return http.build();
     }
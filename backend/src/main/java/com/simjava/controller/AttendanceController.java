@@ -1,15 +1,30 @@
 package com.simjava.controller;
 
+import com.simjava.dto.AttendanceRecapResponse;
 import com.simjava.dto.AttendanceRequest;
 import com.simjava.dto.AttendanceResponse;
+import com.simjava.service.AttendanceCheckInPipeline;
+import com.simjava.service.AttendanceRecapService;
 import com.simjava.service.AttendanceService;
+import com.simjava.service.ExportFormat;
+import com.simjava.service.ExportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/attendance")
@@ -17,6 +32,9 @@ import java.util.List;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceCheckInPipeline checkInPipeline;
+    private final ExportService exportService;
+    private final AttendanceRecapService attendanceRecapService;
 
     @PostMapping
     public ResponseEntity<AttendanceResponse> createAttendance(@Valid @RequestBody AttendanceRequest request) {
@@ -24,6 +42,11 @@ public class AttendanceController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/check-in")
+    public CompletableFuture<ResponseEntity<AttendanceResponse>> checkIn(@Valid @RequestBody AttendanceRequest request) {
+        return checkInPipeline.submit(request).thenApply(ResponseEntity::ok);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AttendanceResponse> getAttendanceById(@PathVariable Long id) {
         AttendanceResponse response = attendanceService.getAttendanceById(id);
@@ -52,4 +75,37 @@ public class AttendanceController {
         List<AttendanceResponse> responses = attendanceService.getAttendancesByStatus(date, status);
         return ResponseEntity.ok(responses);
     }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportAttendances(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) Long classRoomId,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        String filename = "attendance-" + startDate + "-" + endDate + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(exportService.exportAttendances(exportFormat, startDate, endDate, classRoomId));
+    }
+
+    /**
+     * Rekap hadir/izin/sakit/alpa per siswa di satu kelas untuk satu semester (default: tahun ajaran aktif).
+     */
+    @GetMapping("/recap/class/{classRoomId}")
+    public ResponseEntity<Page<AttendanceRecapResponse>> getClassRecap(
+            @PathVariable Long classRoomId,
+            @RequestParam(required = false) Long schoolYearId,
+            @PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(attendanceRecapService.getClassRecap(classRoomId, schoolYearId, pageable));
+    }
+
+    @PostMapping("/recap/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> refreshRecap() {
+        attendanceRecapService.requestRefresh();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("status", "refresh scheduled"));
+    }
 }
@@ -1,6 +1,9 @@
 package com.simjava.controller;
 
+import com.simjava.service.AttendanceRollupService;
 import com.simjava.service.DashboardService;
+import com.simjava.service.LiveUpdateBus;
+import com.simjava.security.SecurityService;
 import com.simjava.security.FirebaseAuthenticationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,10 +13,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 import java.time.LocalDate;
 import java.util.Map;
@@ -25,6 +31,9 @@ import java.util.Map;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final AttendanceRollupService attendanceRollupService;
+    private final LiveUpdateBus liveUpdateBus;
+    private final SecurityService securityService;
     private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
 
     @Operation(
@@ -42,6 +51,17 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getDashboardSummary());
     }
 
+    @Operation(
+        summary = "Subscribe to live dashboard updates",
+        description = "Server-Sent Events stream of deltas: 'attendance' (new check-ins), 'teaching-activity' " +
+                "(new teaching activities) and 'notification' (new inbox notifications for the current user). " +
+                "Slow clients are disconnected and should reload the summary before subscribing again."
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboardUpdates() {
+        return liveUpdateBus.subscribe(securityService.findCurrentUserId().orElse(null));
+    }
+
     @Operation(
         summary = "Get upcoming classes",
         description = "Retrieves a list of upcoming classes for the specified number of days"
@@ -124,6 +144,25 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getAttendanceStatistics(startDate, endDate));
     }
 
+    @Operation(
+        summary = "Rebuild attendance rollup",
+        description = "Recomputes the daily attendance rollup for a date range, e.g. after importing historical attendance"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully rebuilt attendance rollup"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions")
+    })
+    @PostMapping("/attendance-rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildAttendanceRollup(
+            @Parameter(description = "Start date (format: YYYY-MM-DD)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (format: YYYY-MM-DD)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(attendanceRollupService.rebuild(startDate, endDate));
+    }
+
     @GetMapping
     public ResponseEntity<?> getDashboardData() {
         try {
@@ -2,6 +2,7 @@ package com.simjava.controller;
 
 import com.simjava.dto.NotificationRequest;
 import com.simjava.dto.TokenRegistrationRequest;
+import com.simjava.service.NotificationDispatcher;
 import com.simjava.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -18,6 +20,7 @@ import java.util.Map;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
 
     @PostMapping("/token")
     public ResponseEntity<Map<String, Object>> registerToken(@Valid @RequestBody TokenRegistrationRequest request) {
@@ -33,37 +36,15 @@ public class NotificationController {
     @PostMapping("/send")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Map<String, Object>> sendNotification(@Valid @RequestBody NotificationRequest request) {
-        boolean success = false;
-        
-        if (request.getToken() != null) {
-            // Send to specific device
-            success = notificationService.sendNotification(
-                    request.getToken(), 
-                    request.getTitle(), 
-                    request.getBody(), 
-                    request.getData());
-        } else if (request.getTokens() != null && !request.getTokens().isEmpty()) {
-            // Send to multiple devices
-            int successCount = notificationService.sendNotificationToMultipleDevices(
-                    request.getTokens(), 
-                    request.getTitle(), 
-                    request.getBody(), 
-                    request.getData());
-            success = successCount > 0;
-        } else if (request.getTopic() != null) {
-            // Send to topic
-            success = notificationService.sendNotificationToTopic(
-                    request.getTopic(), 
-                    request.getTitle(), 
-                    request.getBody(), 
-                    request.getData());
-        }
+        // Notifikasi dikirim oleh JobWorker; request langsung kembali setelah job tersimpan
+        List<Long> jobIds = notificationDispatcher.dispatch(request);
         
         Map<String, Object> response = new HashMap<>();
-        response.put("success", success);
-        response.put("message", success ? "Notification sent successfully" : "Failed to send notification");
+        response.put("success", true);
+        response.put("message", "Notification queued");
+        response.put("jobIds", jobIds);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.accepted().body(response);
     }
 
     @PostMapping("/topic/subscribe")
@@ -0,0 +1,66 @@
+package com.simjava.controller;
+
+import com.simjava.dto.ApiResponse;
+import com.simjava.dto.MarkNotificationsReadRequest;
+import com.simjava.dto.NotificationBroadcastRequest;
+import com.simjava.dto.NotificationFeedResponse;
+import com.simjava.security.SecurityService;
+import com.simjava.service.NotificationInboxService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Kotak masuk notifikasi milik pengguna yang sedang login.
+ */
+@RestController
+@RequestMapping("/notifications/inbox")
+@RequiredArgsConstructor
+public class NotificationInboxController {
+
+    private final NotificationInboxService notificationInboxService;
+    private final SecurityService securityService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<NotificationFeedResponse>> getFeed(
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        Long userId = securityService.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success(
+                notificationInboxService.getFeed(userId, beforeId, size, unreadOnly)));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getUnreadCount() {
+        Long userId = securityService.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success(
+                Map.of("unread", notificationInboxService.countUnread(userId))));
+    }
+
+    @PostMapping("/read")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> markRead(@Valid @RequestBody MarkNotificationsReadRequest request) {
+        Long userId = securityService.getCurrentUserId();
+        int updated = notificationInboxService.markRead(userId, request.getIds());
+        return ResponseEntity.ok(ApiResponse.success("Notifications marked as read", Map.of("updated", updated)));
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> markAllRead() {
+        Long userId = securityService.getCurrentUserId();
+        int updated = notificationInboxService.markAllRead(userId);
+        return ResponseEntity.ok(ApiResponse.success("Notifications marked as read", Map.of("updated", updated)));
+    }
+
+    @PostMapping("/broadcast")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> broadcast(@Valid @RequestBody NotificationBroadcastRequest request) {
+        int created = notificationInboxService.broadcast(request);
+        return new ResponseEntity<>(ApiResponse.success("Notifications created", Map.of("created", created)), HttpStatus.CREATED);
+    }
+}
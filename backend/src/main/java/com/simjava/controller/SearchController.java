@@ -0,0 +1,34 @@
+package com.simjava.controller;
+
+import com.simjava.dto.ApiResponse;
+import com.simjava.dto.SearchResultResponse;
+import com.simjava.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Pencarian nama guru, pengguna dan siswa, diurutkan berdasarkan relevansi.
+     *
+     * @param types subset dari teacher, user, student (default semua)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SearchResultResponse>>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(searchService.search(q, types, limit)));
+    }
+}
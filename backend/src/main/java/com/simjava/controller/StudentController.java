@@ -2,13 +2,22 @@ package com.simjava.controller;
 
 import com.simjava.dto.StudentRequest;
 import com.simjava.dto.StudentResponse;
+import com.simjava.dto.StudentSliceResponse;
+import com.simjava.service.ExportFormat;
+import com.simjava.service.ExportService;
 import com.simjava.service.StudentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,6 +27,7 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final ExportService exportService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -30,6 +40,40 @@ public class StudentController {
         return ResponseEntity.ok(studentService.getAllStudents());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<Page<StudentResponse>> getStudentsPage(
+            @PageableDefault(size = 20, sort = "namaLengkap") Pageable pageable,
+            @RequestParam(required = false) Long classRoomId,
+            @RequestParam(required = false) String agama,
+            @RequestParam(required = false) Character jenisKelamin) {
+        return ResponseEntity.ok(studentService.getStudents(classRoomId, agama, jenisKelamin, pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<StudentSliceResponse> getStudentsKeyset(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Long classRoomId,
+            @RequestParam(required = false) String agama,
+            @RequestParam(required = false) Character jenisKelamin) {
+        return ResponseEntity.ok(studentService.getStudentsAfter(classRoomId, agama, jenisKelamin, afterId, size));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Long classRoomId,
+            @RequestParam(required = false) String agama,
+            @RequestParam(required = false) Character jenisKelamin) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("students." + exportFormat.getExtension()).build().toString())
+                .body(exportService.exportStudents(exportFormat, classRoomId, agama, jenisKelamin));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<StudentResponse> getStudentById(@PathVariable Long id) {
         return ResponseEntity.ok(studentService.getStudentById(id));
@@ -3,6 +3,8 @@ package com.simjava.controller;
 import com.simjava.dto.ApiResponse;
 import com.simjava.dto.TeacherRequest;
 import com.simjava.dto.TeacherResponse;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import com.simjava.service.TeacherService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +39,21 @@ public class TeacherController {
         return ResponseEntity.ok(ApiResponse.success(teachers));
     }
 
+    /**
+     * Mode keyset dari daftar guru: halaman berikutnya diminta dengan cursor dari nextCursor.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorSlice<TeacherResponse>>> scrollTeachers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "namaLengkap") String sort,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String status) {
+        CursorRequest request = CursorRequest.of(cursor, size, sort, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(teacherService.getTeachersSlice(request, search, status)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<TeacherResponse>> getTeacherById(@PathVariable Long id) {
         TeacherResponse teacher = teacherService.getTeacherById(id);
@@ -1,6 +1,8 @@
 package com.simjava.controller;
 
 import com.simjava.dto.kbm.*;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import com.simjava.service.kbm.TeacherJournalService;
 import com.simjava.service.kbm.TeachingActivityAttendanceService;
 import com.simjava.service.kbm.TeachingActivityService;
@@ -8,10 +10,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/teaching")
 @RequiredArgsConstructor
@@ -32,6 +40,15 @@ public class TeachingController {
         return teachingActivityService.getAllTeachingActivities(pageable);
     }
 
+    @GetMapping("/activities/scroll")
+    public CursorSlice<TeachingActivityResponse> scrollTeachingActivities(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "tanggal,desc") String sort,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return teachingActivityService.getTeachingActivitiesSlice(CursorRequest.of(cursor, size, sort, includeTotal));
+    }
+
     @GetMapping("/activities/{id}")
     public ResponseEntity<TeachingActivityResponse> getTeachingActivityById(@PathVariable Long id) {
         return ResponseEntity.ok(teachingActivityService.getTeachingActivityById(id));
@@ -54,6 +71,11 @@ public class TeachingController {
         return new ResponseEntity<>(attendanceService.recordAttendance(request), HttpStatus.CREATED);
     }
 
+    @PostMapping("/attendance/bulk")
+    public ResponseEntity<List<TeachingActivityAttendanceResponse>> recordBulkAttendance(@Valid @RequestBody TeachingActivityAttendanceBulkRequest request) {
+        return new ResponseEntity<>(attendanceService.recordBulkAttendance(request), HttpStatus.CREATED);
+    }
+
     // Teacher Journal Endpoints
     @PostMapping("/journals")
     public ResponseEntity<TeacherJournalResponse> createTeacherJournal(@Valid @RequestBody TeacherJournalRequest request) {
@@ -61,7 +83,21 @@ public class TeachingController {
     }
 
     @GetMapping("/journals")
-    public Page<TeacherJournalResponse> getTeacherJournals(@RequestParam Long teacherId, Pageable pageable) {
-        return teacherJournalService.getJournalsByTeacher(teacherId, pageable);
+    public Page<TeacherJournalResponse> getTeacherJournals(
+            @RequestParam Long teacherId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @PageableDefault(size = 20, sort = "date", direction = Sort.Direction.DESC) Pageable pageable) {
+        return teacherJournalService.getJournalsByTeacher(teacherId, startDate, endDate, pageable);
+    }
+
+    @GetMapping("/journals/scroll")
+    public CursorSlice<TeacherJournalResponse> scrollTeacherJournals(
+            @RequestParam Long teacherId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "date,desc") String sort,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return teacherJournalService.getJournalsByTeacherSlice(teacherId, CursorRequest.of(cursor, size, sort, includeTotal));
     }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.simjava.controller;
 import com.simjava.dto.ApiResponse;
 import com.simjava.dto.UserRequest;
 import com.simjava.dto.UserResponse;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import com.simjava.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +41,21 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
+    /**
+     * Mode keyset dari daftar pengguna: halaman berikutnya diminta dengan cursor dari nextCursor.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorSlice<UserResponse>>> scrollUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String userType) {
+        CursorRequest request = CursorRequest.of(cursor, size, sort, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(userService.getUsersSlice(request, search, userType)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id) {
         UserResponse user = userService.getUserById(id);
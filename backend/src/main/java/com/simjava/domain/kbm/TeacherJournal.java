@@ -14,15 +14,16 @@ import java.time.LocalDate;
 @Table(name = "teacher_journals")
 public class TeacherJournal extends BaseEntity {
 
+    // Kolom mengikuti skema V3 agar query per guru memakai indeks (guru_id, tanggal)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "teacher_id", nullable = false)
+    @JoinColumn(name = "guru_id", nullable = false)
     private User teacher;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teaching_activity_id")
     private TeachingActivity teachingActivity;
 
-    @Column(nullable = false)
+    @Column(name = "tanggal", nullable = false)
     private LocalDate date;
 
     @Lob
@@ -1,6 +1,6 @@
 package com.simjava.domain.kbm;
 
-import com.simjava.domain.BaseEntity;
+import com.simjava.domain.AuditableEntity;
 import com.simjava.domain.security.Student;
 import jakarta.persistence.*;
 import lombok.Data;
@@ -10,7 +10,14 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(callSuper = true)
 @Entity
 @Table(name = "teaching_activity_attendances")
-public class TeachingActivityAttendance extends BaseEntity {
+public class TeachingActivityAttendance extends AuditableEntity {
+
+    // Sequence dengan alokasi blok agar insert absensi satu kelas bisa di-batch oleh Hibernate
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teaching_activity_attendances_seq")
+    @SequenceGenerator(name = "teaching_activity_attendances_seq",
+            sequenceName = "teaching_activity_attendances_id_seq", allocationSize = 50)
+    private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teaching_activity_id", nullable = false)
@@ -24,4 +31,4 @@ public class TeachingActivityAttendance extends BaseEntity {
     private String status; // Hadir, Sakit, Izin, Alpha
 
     private String description;
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.simjava.domain.notification;
+
+import com.simjava.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notifikasi in-app (kotak masuk) per pengguna, tabel notifications dari V6.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "notifications")
+public class Notification extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    // general, attendance, leave, pkl, academic, system
+    @Column(nullable = false, length = 50)
+    private String type = "general";
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+}
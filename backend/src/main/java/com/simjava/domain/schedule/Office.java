@@ -0,0 +1,48 @@
+package com.simjava.domain.schedule;
+
+import com.simjava.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Lokasi absensi: sekolah maupun perusahaan tempat PKL. Check-in harus berada
+ * dalam radius (meter) dari titik kantor.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "offices")
+public class Office extends BaseEntity {
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String address;
+
+    @Column(nullable = false)
+    private double latitude;
+
+    @Column(nullable = false)
+    private double longitude;
+
+    private Integer radius;
+
+    private String phone;
+
+    private String email;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    // school, company, other
+    @Column(length = 50)
+    private String type;
+
+    // true = aktif
+    @Column(nullable = false)
+    private boolean status;
+}
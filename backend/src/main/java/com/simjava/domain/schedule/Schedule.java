@@ -0,0 +1,36 @@
+package com.simjava.domain.schedule;
+
+import com.simjava.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Jadwal absensi satu pengguna: shift yang diikuti dan kantor tempat check-in.
+ * Pengguna WFA boleh check-in dari mana saja; pengguna yang diblokir tidak boleh check-in.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(exclude = {"shift", "office"})
+@Entity
+@Table(name = "schedules")
+public class Schedule extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "shift_id", nullable = false)
+    private Shift shift;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "office_id", nullable = false)
+    private Office office;
+
+    @Column(name = "is_wfa", nullable = false)
+    private boolean wfa;
+
+    @Column(name = "is_banned", nullable = false)
+    private boolean banned;
+}
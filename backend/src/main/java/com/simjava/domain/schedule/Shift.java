@@ -0,0 +1,29 @@
+package com.simjava.domain.schedule;
+
+import com.simjava.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalTime;
+
+/**
+ * Jam kerja/masuk. Check-in setelah {@code startTime} dihitung terlambat.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "shifts")
+public class Shift extends BaseEntity {
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+}
@@ -10,7 +10,8 @@ import lombok.Builder;
 @Builder
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "attendances")
+@Table(name = "attendances", uniqueConstraints = @UniqueConstraint(
+        name = "uk_attendances_student_date_type", columnNames = {"student_id", "date", "type"}))
 public class Attendance extends BaseEntity {
     @ManyToOne
     @JoinColumn(name = "student_id", nullable = false)
@@ -34,4 +35,8 @@ public class Attendance extends BaseEntity {
 
     @Column(nullable = false)
     private String type; // regular, prayer, etc.
+
+    // Check-in setelah awal shift pada jadwal siswa
+    @Column(name = "is_late", nullable = false)
+    private boolean late;
 }
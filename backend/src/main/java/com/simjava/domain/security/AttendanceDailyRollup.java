@@ -0,0 +1,48 @@
+package com.simjava.domain.security;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Rekap harian jumlah absensi per status dan tipe.
+ * Diperbarui setiap kali absensi dicatat, lihat {@link com.simjava.service.AttendanceRollupService}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "attendance_daily_rollup")
+@IdClass(AttendanceDailyRollup.Key.class)
+public class AttendanceDailyRollup {
+
+    @Id
+    private LocalDate date;
+
+    @Id
+    @Column(length = 50)
+    private String status;
+
+    @Id
+    private String type;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate date;
+        private String status;
+        private String type;
+    }
+}
@@ -0,0 +1,26 @@
+package com.simjava.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rekap absensi satu siswa untuk satu semester.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceRecapResponse {
+    private Long studentId;
+    private String nis;
+    private String namaLengkap;
+    private Long schoolYearId;
+    private String semester;
+    private long hadir;
+    private long izin;
+    private long sakit;
+    private long alpa;
+    private long total;
+}
@@ -21,4 +21,5 @@ public class AttendanceResponse {
     private String notes;
     private String location;
     private String type;
+    private boolean late;
 }
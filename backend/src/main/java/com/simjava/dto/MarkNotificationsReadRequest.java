@@ -0,0 +1,13 @@
+package com.simjava.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MarkNotificationsReadRequest {
+
+    @NotEmpty(message = "Notification IDs are required")
+    private List<Long> ids;
+}
@@ -0,0 +1,25 @@
+package com.simjava.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class NotificationBroadcastRequest {
+
+    @NotBlank(message = "Title is required")
+    private String title;
+
+    @NotBlank(message = "Message is required")
+    private String message;
+
+    @Pattern(regexp = "general|attendance|leave|pkl|academic|system", message = "Invalid notification type")
+    private String type = "general";
+
+    // Penerima: daftar user, semua siswa di kelas, atau keduanya
+    private List<Long> userIds;
+
+    private Long classRoomId;
+}
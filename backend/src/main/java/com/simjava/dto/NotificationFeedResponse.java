@@ -0,0 +1,19 @@
+package com.simjava.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Satu halaman feed notifikasi. Halaman berikutnya diminta dengan {@code beforeId = nextBeforeId};
+ * nextBeforeId null berarti tidak ada halaman lagi.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFeedResponse {
+    private List<NotificationResponse> items;
+    private Long nextBeforeId;
+}
@@ -0,0 +1,22 @@
+package com.simjava.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+    private Long id;
+    private String title;
+    private String message;
+    private String type;
+    private boolean read;
+    private LocalDateTime readAt;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package com.simjava.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultResponse {
+    // teacher, user, student
+    private String type;
+    private Long id;
+    private String name;
+    private String email;
+    private double score;
+}
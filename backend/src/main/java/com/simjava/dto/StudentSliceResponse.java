@@ -0,0 +1,19 @@
+package com.simjava.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Satu halaman keyset daftar siswa. Halaman berikutnya diminta dengan {@code afterId = nextAfterId};
+ * nextAfterId null berarti tidak ada halaman lagi.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentSliceResponse {
+    private List<StudentResponse> items;
+    private Long nextAfterId;
+}
@@ -0,0 +1,37 @@
+package com.simjava.dto.kbm;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TeachingActivityAttendanceBulkRequest {
+
+    // Satu kelas tidak pernah lebih dari ini; sama dengan app.pagination.max-size
+    public static final int MAX_ATTENDANCES = 100;
+
+    @NotNull(message = "Teaching Activity ID tidak boleh kosong")
+    private Long teachingActivityId;
+
+    @Valid
+    @NotEmpty(message = "Daftar kehadiran tidak boleh kosong")
+    @Size(max = MAX_ATTENDANCES, message = "Daftar kehadiran maksimal " + MAX_ATTENDANCES + " siswa")
+    private List<Entry> attendances;
+
+    @Data
+    public static class Entry {
+
+        @NotNull(message = "Student ID tidak boleh kosong")
+        private Long studentId;
+
+        @NotBlank(message = "Status tidak boleh kosong")
+        private String status;
+
+        private String description;
+    }
+}
@@ -0,0 +1,17 @@
+package com.simjava.event;
+
+import com.simjava.dto.AttendanceResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Dipublikasikan di dalam transaksi yang menyimpan absensi baru.
+ * Listener sinkron ikut dalam transaksi yang sama.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AttendanceRecordedEvent {
+    private final List<AttendanceResponse> attendances;
+}
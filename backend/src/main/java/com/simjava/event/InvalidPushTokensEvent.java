@@ -0,0 +1,16 @@
+package com.simjava.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Dipublikasikan setelah fan-out push menemukan token yang tidak terdaftar lagi,
+ * agar pemilik data token bisa menghapusnya.
+ */
+@Getter
+@RequiredArgsConstructor
+public class InvalidPushTokensEvent {
+    private final List<String> tokens;
+}
@@ -0,0 +1,17 @@
+package com.simjava.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Dipublikasikan di dalam transaksi yang menulis notifikasi kotak masuk baru.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationCreatedEvent {
+    private final List<Long> userIds;
+    private final String title;
+    private final String type;
+}
@@ -0,0 +1,31 @@
+package com.simjava.event;
+
+import com.simjava.domain.security.Student;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Dipublikasikan di dalam transaksi yang membuat, mengubah atau menghapus siswa.
+ * previous null untuk siswa baru, current null untuk siswa yang dihapus.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudentChangedEvent {
+    private final Group previous;
+    private final Group current;
+
+    /**
+     * Atribut siswa yang dihitung di statistik dashboard.
+     */
+    @Value
+    public static class Group {
+        Character jenisKelamin;
+        Long classRoomId;
+        String agama;
+
+        public static Group of(Student student) {
+            return new Group(student.getJenisKelamin(), student.getClassRoomId(), student.getAgama());
+        }
+    }
+}
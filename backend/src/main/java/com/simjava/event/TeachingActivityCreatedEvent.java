@@ -0,0 +1,14 @@
+package com.simjava.event;
+
+import com.simjava.dto.kbm.TeachingActivityResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Dipublikasikan di dalam transaksi yang membuat kegiatan mengajar baru.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TeachingActivityCreatedEvent {
+    private final TeachingActivityResponse activity;
+}
@@ -0,0 +1,57 @@
+package com.simjava.repository;
+
+import com.simjava.domain.security.AttendanceDailyRollup;
+import com.simjava.repository.projection.AttendanceCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceDailyRollupRepository extends JpaRepository<AttendanceDailyRollup, AttendanceDailyRollup.Key> {
+
+    /** Kunci pertama pg_advisory_xact_lock(int, int) untuk rekap absensi harian */
+    int ROLLUP_LOCK_NAMESPACE = 20_240_115;
+
+    @Query("SELECT r.date AS date, r.status AS status, r.type AS type, r.total AS total " +
+           "FROM AttendanceDailyRollup r WHERE r.date BETWEEN :startDate AND :endDate")
+    List<AttendanceCountView> findCountsByDateBetween(@Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    /**
+     * Kunci advisory untuk satu tanggal rekap (epoch day), dilepas saat transaksi selesai.
+     * Check-in memakai versi shared sehingga tidak saling menunggu; rebuild memakai versi eksklusif.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock_shared(" + ROLLUP_LOCK_NAMESPACE + ", :day)) l",
+           nativeQuery = true)
+    Integer lockDateShared(@Param("day") int day);
+
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(" + ROLLUP_LOCK_NAMESPACE + ", :day)) l",
+           nativeQuery = true)
+    Integer lockDateExclusive(@Param("day") int day);
+
+    @Modifying
+    @Query(value = "INSERT INTO attendance_daily_rollup (date, status, type, total, updated_at) " +
+                   "VALUES (:date, :status, :type, :delta, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (date, status, type) DO UPDATE " +
+                   "SET total = attendance_daily_rollup.total + EXCLUDED.total, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int increment(@Param("date") LocalDate date, @Param("status") String status,
+                  @Param("type") String type, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM AttendanceDailyRollup r WHERE r.date BETWEEN :startDate AND :endDate")
+    int deleteByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO attendance_daily_rollup (date, status, type, total, updated_at) " +
+                   "SELECT date, status, type, COUNT(*), CURRENT_TIMESTAMP FROM attendances " +
+                   "WHERE date BETWEEN :startDate AND :endDate AND status IS NOT NULL AND type IS NOT NULL " +
+                   "GROUP BY date, status, type",
+           nativeQuery = true)
+    int insertFromAttendances(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
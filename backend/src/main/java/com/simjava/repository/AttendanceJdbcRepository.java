@@ -0,0 +1,200 @@
+package com.simjava.repository;
+
+import com.simjava.dto.AttendanceRequest;
+import com.simjava.dto.AttendanceResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Penulisan absensi lewat JDBC, tanpa melewati persistence context.
+ *
+ * Insert memakai ON CONFLICT (student_id, date, type) DO NOTHING: check-in yang diulang
+ * oleh klien tidak membuat baris baru dan langsung mengembalikan baris aslinya
+ * dalam statement yang sama.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceJdbcRepository {
+
+    private static final String COLUMNS = "id, student_id, date, status, time_in, time_out, notes, location, type, is_late";
+
+    private static final String UPSERT_SQL =
+            "WITH inserted AS (" +
+            "  INSERT INTO attendances (student_id, date, status, time_in, time_out, notes, location, type, is_late, created_at, updated_at) " +
+            "  VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "  ON CONFLICT (student_id, date, type) DO NOTHING " +
+            "  RETURNING " + COLUMNS + ", TRUE AS created) " +
+            "SELECT * FROM inserted " +
+            "UNION ALL " +
+            "SELECT " + COLUMNS + ", FALSE AS created FROM attendances " +
+            "WHERE student_id = ? AND date = ? AND type = ? AND NOT EXISTS (SELECT 1 FROM inserted)";
+
+    private static final String UPSERT_ALL_SQL =
+            "WITH input AS (" +
+            "  SELECT * FROM unnest(?::bigint[], ?::date[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::boolean[]) " +
+            "  AS t(student_id, date, status, time_in, time_out, notes, location, type, is_late)), " +
+            "inserted AS (" +
+            "  INSERT INTO attendances (student_id, date, status, time_in, time_out, notes, location, type, is_late, created_at, updated_at) " +
+            "  SELECT student_id, date, status, time_in, time_out, notes, location, type, is_late, ?, ? FROM input " +
+            "  ON CONFLICT (student_id, date, type) DO NOTHING " +
+            "  RETURNING " + COLUMNS + ", TRUE AS created) " +
+            "SELECT * FROM inserted " +
+            "UNION ALL " +
+            "SELECT a.id, a.student_id, a.date, a.status, a.time_in, a.time_out, a.notes, a.location, a.type, a.is_late, FALSE AS created " +
+            "FROM attendances a JOIN input i ON a.student_id = i.student_id AND a.date = i.date AND a.type = i.type " +
+            "WHERE NOT EXISTS (SELECT 1 FROM inserted x " +
+            "  WHERE x.student_id = a.student_id AND x.date = a.date AND x.type = a.type)";
+
+    private static final String FIND_BY_KEY_SQL =
+            "SELECT " + COLUMNS + ", FALSE AS created FROM attendances WHERE student_id = ? AND date = ? AND type = ?";
+
+    private static final RowMapper<UpsertResult> ROW_MAPPER = (rs, rowNum) -> new UpsertResult(
+            AttendanceResponse.builder()
+                    .id(rs.getLong("id"))
+                    .studentId(rs.getLong("student_id"))
+                    .date(rs.getObject("date", LocalDate.class))
+                    .status(rs.getString("status"))
+                    .timeIn(rs.getString("time_in"))
+                    .timeOut(rs.getString("time_out"))
+                    .notes(rs.getString("notes"))
+                    .location(rs.getString("location"))
+                    .type(rs.getString("type"))
+                    .late(rs.getBoolean("is_late"))
+                    .build(),
+            rs.getBoolean("created"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Simpan satu absensi, atau kembalikan absensi yang sudah ada untuk siswa, tanggal dan tipe yang sama.
+     */
+    public UpsertResult upsert(CheckIn checkIn) {
+        AttendanceRequest request = checkIn.getRequest();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date date = Date.valueOf(request.getDate());
+        List<UpsertResult> results = jdbcTemplate.query(UPSERT_SQL, ROW_MAPPER,
+                request.getStudentId(), date, request.getStatus(), request.getTimeIn(), request.getTimeOut(),
+                request.getNotes(), request.getLocation(), request.getType(), checkIn.isLate(), now, now,
+                request.getStudentId(), date, request.getType());
+        return results.isEmpty() ? findByKey(request) : results.get(0);
+    }
+
+    /**
+     * Versi batch dari {@link #upsert(CheckIn)} dalam satu statement.
+     * Hasil dikembalikan sesuai urutan input; permintaan ganda di dalam batch
+     * mendapat baris yang sama.
+     */
+    public List<UpsertResult> upsertAll(List<CheckIn> checkIns) {
+        if (checkIns.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Key, CheckIn> unique = new LinkedHashMap<>();
+        for (CheckIn checkIn : checkIns) {
+            unique.putIfAbsent(Key.of(checkIn.getRequest()), checkIn);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<UpsertResult> rows = jdbcTemplate.query(con -> prepareUpsertAll(con, unique.values(), now), ROW_MAPPER);
+
+        Map<Key, UpsertResult> byKey = new HashMap<>();
+        for (UpsertResult row : rows) {
+            byKey.put(Key.of(row.getAttendance()), row);
+        }
+
+        List<UpsertResult> results = new ArrayList<>(checkIns.size());
+        Set<Key> seen = new HashSet<>();
+        for (CheckIn checkIn : checkIns) {
+            AttendanceRequest request = checkIn.getRequest();
+            Key key = Key.of(request);
+            // Baris dari transaksi lain yang commit saat statement berjalan tidak terlihat di snapshot-nya
+            UpsertResult result = byKey.computeIfAbsent(key, k -> findByKey(request));
+            results.add(seen.add(key) ? result : new UpsertResult(result.getAttendance(), false));
+        }
+        return results;
+    }
+
+    private UpsertResult findByKey(AttendanceRequest request) {
+        return jdbcTemplate.queryForObject(FIND_BY_KEY_SQL, ROW_MAPPER,
+                request.getStudentId(), Date.valueOf(request.getDate()), request.getType());
+    }
+
+    private static PreparedStatement prepareUpsertAll(Connection con, Collection<CheckIn> checkIns,
+                                                      Timestamp now) throws SQLException {
+        int size = checkIns.size();
+        Long[] studentIds = new Long[size];
+        Date[] dates = new Date[size];
+        String[][] text = new String[6][size];
+        Boolean[] late = new Boolean[size];
+        int i = 0;
+        for (CheckIn checkIn : checkIns) {
+            AttendanceRequest request = checkIn.getRequest();
+            studentIds[i] = request.getStudentId();
+            dates[i] = Date.valueOf(request.getDate());
+            text[0][i] = request.getStatus();
+            text[1][i] = request.getTimeIn();
+            text[2][i] = request.getTimeOut();
+            text[3][i] = request.getNotes();
+            text[4][i] = request.getLocation();
+            text[5][i] = request.getType();
+            late[i] = checkIn.isLate();
+            i++;
+        }
+
+        PreparedStatement ps = con.prepareStatement(UPSERT_ALL_SQL);
+        ps.setArray(1, con.createArrayOf("bigint", studentIds));
+        ps.setArray(2, con.createArrayOf("date", dates));
+        for (int column = 0; column < text.length; column++) {
+            ps.setArray(3 + column, con.createArrayOf("varchar", text[column]));
+        }
+        ps.setArray(9, con.createArrayOf("boolean", late));
+        ps.setTimestamp(10, now);
+        ps.setTimestamp(11, now);
+        return ps;
+    }
+
+    /**
+     * Absensi yang akan disimpan beserta status terlambat yang dihitung server.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class CheckIn {
+        private final AttendanceRequest request;
+        private final boolean late;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class UpsertResult {
+        private final AttendanceResponse attendance;
+        private final boolean created;
+    }
+
+    @Value
+    private static class Key {
+        Long studentId;
+        LocalDate date;
+        String type;
+
+        static Key of(AttendanceRequest request) {
+            return new Key(request.getStudentId(), request.getDate(), request.getType());
+        }
+
+        static Key of(AttendanceResponse attendance) {
+            return new Key(attendance.getStudentId(), attendance.getDate(), attendance.getType());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.simjava.repository;
+
+import com.simjava.dto.AttendanceRecapResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Akses ke materialized view attendance_semester_recap (V27).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceRecapJdbcRepository {
+
+    // Siswa tanpa absensi di semester tersebut tetap muncul dengan nilai 0
+    private static final String CLASS_RECAP_SQL =
+            "SELECT s.id AS student_id, s.nis, s.nama_lengkap, sy.id AS school_year_id, sy.semester, " +
+            "COALESCE(r.hadir, 0) AS hadir, COALESCE(r.izin, 0) AS izin, COALESCE(r.sakit, 0) AS sakit, " +
+            "COALESCE(r.alpa, 0) AS alpa, COALESCE(r.total, 0) AS total " +
+            "FROM students s " +
+            "JOIN school_years sy ON sy.id = ? " +
+            "LEFT JOIN attendance_semester_recap r " +
+            "  ON r.student_id = s.id AND r.school_year_id = sy.id AND r.semester = sy.semester " +
+            "WHERE s.class_room_id = ? " +
+            "ORDER BY s.nama_lengkap, s.id " +
+            "LIMIT ? OFFSET ?";
+
+    private static final RowMapper<AttendanceRecapResponse> ROW_MAPPER = (rs, rowNum) -> AttendanceRecapResponse.builder()
+            .studentId(rs.getLong("student_id"))
+            .nis(rs.getString("nis"))
+            .namaLengkap(rs.getString("nama_lengkap"))
+            .schoolYearId(rs.getLong("school_year_id"))
+            .semester(rs.getString("semester"))
+            .hadir(rs.getLong("hadir"))
+            .izin(rs.getLong("izin"))
+            .sakit(rs.getLong("sakit"))
+            .alpa(rs.getLong("alpa"))
+            .total(rs.getLong("total"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<AttendanceRecapResponse> findByClassRoom(Long classRoomId, Long schoolYearId, int limit, long offset) {
+        return jdbcTemplate.query(CLASS_RECAP_SQL, ROW_MAPPER, schoolYearId, classRoomId, limit, offset);
+    }
+
+    public long countStudentsInClassRoom(Long classRoomId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM students WHERE class_room_id = ?", Long.class, classRoomId);
+        return count != null ? count : 0;
+    }
+
+    public boolean existsSchoolYear(Long schoolYearId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM school_years WHERE id = ?", Long.class, schoolYearId);
+        return count != null && count > 0;
+    }
+
+    public Optional<Long> findActiveSchoolYearId() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM school_years WHERE status = 'aktif' ORDER BY id DESC LIMIT 1", Long.class)
+                .stream().findFirst();
+    }
+
+    /**
+     * Refresh tanpa mengunci pembaca; view lama tetap terbaca sampai refresh selesai.
+     */
+    public void refresh() {
+        jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY attendance_semester_recap");
+    }
+}
@@ -1,14 +1,41 @@
 package com.simjava.repository;
 
 import com.simjava.domain.security.Attendance;
+import com.simjava.repository.projection.AttendanceExportView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findByStudentId(Long studentId);
     List<Attendance> findByStudentIdAndDateBetween(Long studentId, java.time.LocalDate startDate, java.time.LocalDate endDate);
     List<Attendance> findByDateAndStatus(java.time.LocalDate date, String status);
+
+    /**
+     * Baris ekspor dibaca bertahap dengan fetch size; harus dipanggil di dalam transaksi
+     * dan Stream wajib ditutup.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.id AS id, s.id AS studentId, s.nis AS nis, s.namaLengkap AS namaLengkap, " +
+           "s.classRoomId AS classRoomId, a.date AS date, a.status AS status, a.type AS type, " +
+           "a.timeIn AS timeIn, a.timeOut AS timeOut, a.location AS location, a.notes AS notes " +
+           "FROM Attendance a JOIN a.student s " +
+           "WHERE a.date BETWEEN :startDate AND :endDate " +
+           "AND (:classRoomId IS NULL OR s.classRoomId = :classRoomId) " +
+           "ORDER BY a.date, a.id")
+    Stream<AttendanceExportView> streamExportRows(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate,
+                                                  @Param("classRoomId") Long classRoomId);
 }
@@ -0,0 +1,76 @@
+package com.simjava.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.simjava.exception.BadRequestException;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encode/decode cursor keyset. Cursor berisi properti dan arah urutan, nilai kunci urutan dan id
+ * baris terakhir sebagai JSON Base64url, sehingga klien tidak bergantung pada bentuknya.
+ */
+final class CursorCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private CursorCodec() {
+    }
+
+    static String encode(String property, Sort.Direction direction, Object value, Long id) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("s", property);
+        node.put("d", direction.name());
+        node.set("v", MAPPER.valueToTree(value));
+        node.put("id", id);
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(node));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    static Cursor decode(String cursor) {
+        try {
+            JsonNode node = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+            if (!node.hasNonNull("s") || !node.hasNonNull("d") || !node.hasNonNull("id")) {
+                throw new BadRequestException("Cursor tidak valid");
+            }
+            return new Cursor(node.get("s").asText(), Sort.Direction.valueOf(node.get("d").asText()),
+                    node.get("v"), node.get("id").asLong());
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BadRequestException("Cursor tidak valid", e);
+        }
+    }
+
+    /**
+     * Nilai kunci urutan dikembalikan ke tipe atribut entitas (String, LocalDate, LocalTime, ...).
+     */
+    static <V> V valueAs(Cursor cursor, Class<V> type) {
+        JsonNode value = cursor.getValue();
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        try {
+            return MAPPER.treeToValue(value, type);
+        } catch (IOException e) {
+            throw new BadRequestException("Cursor tidak valid", e);
+        }
+    }
+
+    @Value
+    static class Cursor {
+        String property;
+        Sort.Direction direction;
+        JsonNode value;
+        Long id;
+    }
+}
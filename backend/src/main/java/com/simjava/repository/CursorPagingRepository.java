@@ -0,0 +1,105 @@
+package com.simjava.repository;
+
+import com.simjava.domain.BaseEntity;
+import com.simjava.exception.BadRequestException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Fragment pagination keyset (seek) untuk repository yang sudah memakai offset {@code Pageable}.
+ *
+ * Halaman dibaca dengan {@code WHERE kunci >= v AND (kunci > v OR (kunci = v AND id > terakhir))}
+ * + {@code LIMIT size + 1} pada urutan (kunci, id). Batas {@code kunci >= v} membuat scan indeks
+ * dimulai dari posisi cursor, sehingga biaya per halaman konstan dan tidak ada count(*) kecuali diminta.
+ * NULL pada kunci urutan dianggap terbesar, sama dengan urutan bawaan PostgreSQL (NULLS LAST untuk ASC,
+ * NULLS FIRST untuk DESC), sehingga ORDER BY tetap bisa memakai indeks (kunci, id) biasa.
+ */
+@NoRepositoryBean
+public interface CursorPagingRepository<T extends BaseEntity> extends JpaSpecificationExecutor<T> {
+
+    String ID = "id";
+
+    default CursorSlice<T> findSlice(@Nullable Specification<T> spec, CursorRequest request) {
+        String property = request.getSortProperty();
+        Sort.Direction direction = request.getDirection();
+        CursorCodec.Cursor cursor = request.getCursor() != null ? CursorCodec.decode(request.getCursor()) : null;
+        if (cursor != null && (!cursor.getProperty().equals(property) || cursor.getDirection() != direction)) {
+            throw new BadRequestException("Cursor tidak cocok dengan urutan " + property + "," + direction);
+        }
+
+        Specification<T> filter = spec != null ? spec : (root, query, cb) -> null;
+        Specification<T> seek = cursor != null ? filter.and(seekAfter(cursor)) : filter;
+        Sort.Order order = new Sort.Order(direction, property);
+        Sort sort = ID.equals(property) ? Sort.by(order) : Sort.by(order, new Sort.Order(direction, ID));
+        int size = request.getSize();
+
+        // Ambil satu baris ekstra untuk mengetahui apakah masih ada halaman berikutnya
+        List<T> rows = findBy(seek, q -> q.sortBy(sort).limit(size + 1).all());
+
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            T last = items.get(items.size() - 1);
+            Object value = PropertyAccessorFactory.forBeanPropertyAccess(last).getPropertyValue(property);
+            nextCursor = CursorCodec.encode(property, direction, value, last.getId());
+        }
+        Long total = request.isIncludeTotal() ? count(filter) : null;
+        return new CursorSlice<>(items, nextCursor, total);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Specification<T> seekAfter(CursorCodec.Cursor cursor) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get(ID);
+            boolean ascending = cursor.getDirection().isAscending();
+            Predicate idAfter = ascending ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+            if (ID.equals(cursor.getProperty())) {
+                return idAfter;
+            }
+
+            Path key = root.get(cursor.getProperty());
+            Comparable value = (Comparable) CursorCodec.valueAs(cursor, key.getJavaType());
+            if (value == null) {
+                Predicate inNullTail = cb.and(cb.isNull(key), idAfter);
+                // DESC: baris NULL ada di depan, semua baris non-NULL masih menyusul
+                return ascending ? inNullTail : cb.or(cb.isNotNull(key), inNullTail);
+            }
+            Expression<Comparable> comparableKey = (Expression<Comparable>) key;
+            Predicate keyAfter = ascending ? cb.greaterThan(comparableKey, value) : cb.lessThan(comparableKey, value);
+            Predicate sameKey = cb.and(cb.equal(key, value), idAfter);
+            // Batas redundan di luar OR agar PostgreSQL bisa memulai range scan indeks (kunci, id) dari nilai terakhir
+            Predicate bound = ascending ? cb.greaterThanOrEqualTo(comparableKey, value)
+                    : cb.lessThanOrEqualTo(comparableKey, value);
+            Predicate seek = cb.and(bound, cb.or(keyAfter, sameKey));
+            // ASC: baris NULL ada di belakang dan belum terbaca
+            return ascending && isNullable(root.getJavaType(), cursor.getProperty()) ? cb.or(seek, cb.isNull(key)) : seek;
+        };
+    }
+
+    /**
+     * Kolom dianggap nullable kecuali bertipe primitif, {@code @Id} atau {@code @Column(nullable = false)}.
+     */
+    private static boolean isNullable(Class<?> type, String property) {
+        Field field = ReflectionUtils.findField(type, property);
+        if (field == null) {
+            return true;
+        }
+        Column column = field.getAnnotation(Column.class);
+        return !field.getType().isPrimitive() && !field.isAnnotationPresent(Id.class)
+                && (column == null || column.nullable());
+    }
+}
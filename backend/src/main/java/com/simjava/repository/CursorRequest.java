@@ -0,0 +1,50 @@
+package com.simjava.repository;
+
+import com.simjava.exception.BadRequestException;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Permintaan satu halaman keyset: cursor opaque dari halaman sebelumnya (null untuk halaman pertama),
+ * ukuran halaman, satu properti urutan (id selalu dipakai sebagai pemecah seri) dan apakah total
+ * baris perlu dihitung. Total bersifat opsional karena count(*) justru biaya yang ingin dihindari.
+ */
+@Value
+public class CursorRequest {
+
+    String cursor;
+    int size;
+    String sortProperty;
+    Sort.Direction direction;
+    boolean includeTotal;
+
+    /**
+     * @param sort format sama dengan Pageable, mis. {@code name} atau {@code tanggal,desc}
+     */
+    public static CursorRequest of(String cursor, int size, String sort, boolean includeTotal) {
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length > 1) {
+            try {
+                direction = Sort.Direction.fromString(parts[1].trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Arah urutan harus asc atau desc");
+            }
+        }
+        return new CursorRequest(cursor == null || cursor.isBlank() ? null : cursor, size, property, direction, includeTotal);
+    }
+
+    /**
+     * Membatasi properti urutan ke kolom yang terindeks dan ukuran halaman ke batas aplikasi.
+     */
+    public CursorRequest restrictTo(Set<String> sortProperties, int maxSize) {
+        if (!sortProperties.contains(sortProperty)) {
+            throw new BadRequestException("Urutan tidak didukung: " + sortProperty);
+        }
+        return new CursorRequest(cursor, Math.max(1, Math.min(size, maxSize)), sortProperty, direction, includeTotal);
+    }
+}
@@ -0,0 +1,24 @@
+package com.simjava.repository;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Satu halaman hasil keyset. Halaman berikutnya diminta dengan {@code cursor = nextCursor};
+ * nextCursor null berarti tidak ada halaman lagi. total hanya terisi bila diminta.
+ */
+@Value
+public class CursorSlice<T> {
+
+    List<T> items;
+    String nextCursor;
+    Long total;
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().map(mapper).collect(Collectors.toList());
+        return new CursorSlice<>(mapped, nextCursor, total);
+    }
+}
@@ -0,0 +1,112 @@
+package com.simjava.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Antrian job di tabel jobs / failed_jobs (V6). Semua waktu dalam detik epoch.
+ *
+ * Reservasi memakai FOR UPDATE SKIP LOCKED sehingga beberapa worker (atau beberapa
+ * instance aplikasi) bisa mengambil job dari antrian yang sama tanpa saling menunggu
+ * dan tanpa mengambil job yang sama dua kali.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO jobs (queue, payload, attempts, reserved_at, available_at, created_at) VALUES (?, ?, 0, NULL, ?, ?)";
+
+    private static final String RESERVE_SQL =
+            "UPDATE jobs SET reserved_at = ?, attempts = attempts + 1 " +
+            "WHERE id IN (" +
+            "  SELECT id FROM jobs " +
+            "  WHERE queue = ANY(?) AND reserved_at IS NULL AND available_at <= ? " +
+            "  ORDER BY available_at, id LIMIT ? " +
+            "  FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, queue, payload, attempts";
+
+    private static final String RELEASE_SQL =
+            "UPDATE jobs SET reserved_at = NULL, available_at = ? WHERE id = ?";
+
+    private static final String RELEASE_STALE_SQL =
+            "UPDATE jobs SET reserved_at = NULL WHERE reserved_at IS NOT NULL AND reserved_at < ?";
+
+    // Pindah ke failed_jobs dan hapus dari jobs dalam satu statement
+    private static final String FAIL_SQL =
+            "WITH moved AS (DELETE FROM jobs WHERE id = ? RETURNING queue, payload) " +
+            "INSERT INTO failed_jobs (uuid, connection, queue, payload, exception) " +
+            "SELECT ?, 'database', queue, payload, ? FROM moved";
+
+    private static final RowMapper<Job> ROW_MAPPER = (rs, rowNum) -> new Job(
+            rs.getLong("id"),
+            rs.getString("queue"),
+            rs.getString("payload"),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long push(String queue, String payload, long availableAt, long now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] {"id"});
+            ps.setString(1, queue);
+            ps.setString(2, payload);
+            ps.setInt(3, (int) availableAt);
+            ps.setInt(4, (int) now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * Ambil dan tandai maksimal {@code limit} job yang sudah jatuh tempo.
+     */
+    public List<Job> reserve(Collection<String> queues, int limit, long now) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(RESERVE_SQL);
+            ps.setInt(1, (int) now);
+            ps.setArray(2, connection.createArrayOf("varchar", queues.toArray()));
+            ps.setInt(3, (int) now);
+            ps.setInt(4, limit);
+            return ps;
+        }, ROW_MAPPER);
+    }
+
+    public void delete(long id) {
+        jdbcTemplate.update("DELETE FROM jobs WHERE id = ?", id);
+    }
+
+    public void release(long id, long availableAt) {
+        jdbcTemplate.update(RELEASE_SQL, (int) availableAt, id);
+    }
+
+    /**
+     * Lepaskan reservasi milik worker yang mati sebelum menyelesaikan job-nya.
+     */
+    public int releaseStale(long reservedBefore) {
+        return jdbcTemplate.update(RELEASE_STALE_SQL, (int) reservedBefore);
+    }
+
+    public void fail(long id, String exception) {
+        jdbcTemplate.update(FAIL_SQL, id, UUID.randomUUID().toString(), exception);
+    }
+
+    @Value
+    public static class Job {
+        long id;
+        String queue;
+        String payload;
+        int attempts;
+    }
+}
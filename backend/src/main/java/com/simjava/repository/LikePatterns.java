@@ -0,0 +1,15 @@
+package com.simjava.repository;
+
+/**
+ * Escape karakter khusus LIKE ({@code \}, {@code %}, {@code _}) pada input pencarian,
+ * untuk query yang memakai {@code ESCAPE '\'}. Tanpa ini pencarian "_" atau "%" cocok dengan semua baris.
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    public static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
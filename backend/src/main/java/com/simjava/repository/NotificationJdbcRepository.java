@@ -0,0 +1,60 @@
+package com.simjava.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Insert notifikasi massal (broadcast) lewat JDBC batch, tanpa persistence context
+ * dan tanpa satu round trip per penerima.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, title, message, type, is_read, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, FALSE, ?, ?)";
+
+    private static final String INSERT_FOR_CLASS_ROOM_SQL =
+            "INSERT INTO notifications (user_id, title, message, type, is_read, created_at, updated_at) " +
+            "SELECT DISTINCT s.user_id, ?, ?, ?, FALSE, ?, ? FROM students s " +
+            "WHERE s.class_room_id = ? AND s.user_id IS NOT NULL " +
+            "RETURNING user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertForUsers(Collection<Long> userIds, String title, String message, String type, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, userIds, BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, title);
+            ps.setString(3, message);
+            ps.setString(4, type);
+            ps.setTimestamp(5, timestamp);
+            ps.setTimestamp(6, timestamp);
+        });
+        int total = 0;
+        for (int[] batch : counts) {
+            total += batch.length;
+        }
+        return total;
+    }
+
+    /**
+     * Satu INSERT ... SELECT untuk semua siswa di kelas yang memiliki akun pengguna.
+     *
+     * @return id pengguna penerima
+     */
+    public List<Long> insertForClassRoom(Long classRoomId, String title, String message, String type, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.queryForList(INSERT_FOR_CLASS_ROOM_SQL, Long.class, title, message, type, timestamp, timestamp, classRoomId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.simjava.repository;
+
+import com.simjava.domain.notification.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // Feed keyset: halaman berikutnya dimulai dari id < id terakhir halaman sebelumnya
+    List<Notification> findByUserIdOrderByIdDesc(Long userId, Limit limit);
+
+    List<Notification> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Limit limit);
+
+    List<Notification> findByUserIdAndReadFalseOrderByIdDesc(Long userId, Limit limit);
+
+    List<Notification> findByUserIdAndReadFalseAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Limit limit);
+
+    // Memakai partial index idx_notifications_user_unread
+    long countByUserIdAndReadFalse(Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true, n.readAt = :now, n.updatedAt = :now " +
+           "WHERE n.userId = :userId AND n.read = false AND n.id IN :ids")
+    int markRead(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true, n.readAt = :now, n.updatedAt = :now " +
+           "WHERE n.userId = :userId AND n.read = false")
+    int markAllRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
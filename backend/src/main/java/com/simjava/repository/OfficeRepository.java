@@ -0,0 +1,18 @@
+package com.simjava.repository;
+
+import com.simjava.domain.schedule.Office;
+import com.simjava.repository.projection.ChangeSignatureView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OfficeRepository extends JpaRepository<Office, Long> {
+
+    List<Office> findByStatusTrue();
+
+    @Query("SELECT COUNT(o) AS total, MAX(o.updatedAt) AS lastUpdatedAt FROM Office o")
+    ChangeSignatureView findSignature();
+}
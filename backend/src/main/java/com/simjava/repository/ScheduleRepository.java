@@ -0,0 +1,24 @@
+package com.simjava.repository;
+
+import com.simjava.domain.schedule.Schedule;
+import com.simjava.repository.projection.ChangeSignatureView;
+import com.simjava.repository.projection.ResolvedScheduleView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+
+    @Query("SELECT sc.userId AS userId, st.id AS studentId, sh.id AS shiftId, sh.name AS shiftName, " +
+           "sh.startTime AS startTime, sh.endTime AS endTime, o.id AS officeId, o.name AS officeName, " +
+           "sc.wfa AS wfa, sc.banned AS banned " +
+           "FROM Schedule sc JOIN sc.shift sh JOIN sc.office o " +
+           "LEFT JOIN Student st ON st.userId = sc.userId")
+    List<ResolvedScheduleView> findAllResolved();
+
+    @Query("SELECT COUNT(s) AS total, MAX(s.updatedAt) AS lastUpdatedAt FROM Schedule s")
+    ChangeSignatureView findSignature();
+}
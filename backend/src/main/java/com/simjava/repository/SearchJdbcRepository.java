@@ -0,0 +1,119 @@
+package com.simjava.repository;
+
+import com.simjava.dto.SearchResultResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Pencarian nama guru, pengguna dan siswa dalam satu query.
+ *
+ * Di PostgreSQL dengan pg_trgm, kandidat diambil lewat LIKE '%q%' atau operator similarity (%)
+ * yang keduanya dilayani indeks GIN trigram (V25), lalu diurutkan berdasarkan similarity().
+ * Database lain (H2 untuk test) memakai LIKE biasa dengan skor sederhana.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchJdbcRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchJdbcRepository.class);
+
+    public static final String TEACHER = "teacher";
+    public static final String USER = "user";
+    public static final String STUDENT = "student";
+
+    private static final RowMapper<SearchResultResponse> ROW_MAPPER = (ResultSet rs, int rowNum) -> new SearchResultResponse(
+            rs.getString("type"),
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("email"),
+            rs.getDouble("score"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean trigramAvailable;
+
+    /**
+     * @param query teks pencarian, sudah di-trim
+     * @param types subset dari teacher, user, student
+     */
+    public List<SearchResultResponse> search(String query, Set<String> types, int limit) {
+        String q = query.toLowerCase(Locale.ROOT);
+        String pattern = "%" + LikePatterns.escape(q) + "%";
+        boolean trigram = isTrigramAvailable();
+
+        List<String> selects = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (types.contains(TEACHER)) {
+            selects.add(select(TEACHER, "teachers", "nama_lengkap", trigram));
+            addArgs(args, q, pattern, trigram);
+        }
+        if (types.contains(USER)) {
+            selects.add(select(USER, "users", "name", trigram));
+            addArgs(args, q, pattern, trigram);
+        }
+        if (types.contains(STUDENT)) {
+            selects.add(select(STUDENT, "students", "nama_lengkap", trigram));
+            addArgs(args, q, pattern, trigram);
+        }
+        if (selects.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = String.join(" UNION ALL ", selects) + " ORDER BY score DESC, name LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, ROW_MAPPER, args.toArray());
+    }
+
+    private static String select(String type, String table, String nameColumn, boolean trigram) {
+        String name = "lower(" + nameColumn + ")";
+        if (trigram) {
+            return "SELECT '" + type + "' AS type, id, " + nameColumn + " AS name, email, " +
+                    "similarity(" + name + ", ?) AS score FROM " + table +
+                    " WHERE " + name + " LIKE ? ESCAPE '\\' OR " + name + " % ?";
+        }
+        // Skor fallback: awalan nama lebih relevan daripada kemunculan di tengah
+        return "SELECT '" + type + "' AS type, id, " + nameColumn + " AS name, email, " +
+                "CASE WHEN " + name + " LIKE ? ESCAPE '\\' THEN 1.0 ELSE 0.5 END AS score FROM " + table +
+                " WHERE " + name + " LIKE ? ESCAPE '\\'";
+    }
+
+    private static void addArgs(List<Object> args, String q, String pattern, boolean trigram) {
+        if (trigram) {
+            args.add(q);
+            args.add(pattern);
+            args.add(q);
+        } else {
+            args.add(LikePatterns.escape(q) + "%");
+            args.add(pattern);
+        }
+    }
+
+    private boolean isTrigramAvailable() {
+        Boolean available = trigramAvailable;
+        if (available == null) {
+            available = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            if (available) {
+                Integer extensions = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM pg_extension WHERE extname = 'pg_trgm'", Integer.class);
+                available = extensions != null && extensions > 0;
+            }
+            if (!available) {
+                logger.info("pg_trgm not available, search falls back to LIKE matching");
+            }
+            trigramAvailable = available;
+        }
+        return available;
+    }
+}
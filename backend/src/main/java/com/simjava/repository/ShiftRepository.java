@@ -0,0 +1,14 @@
+package com.simjava.repository;
+
+import com.simjava.domain.schedule.Shift;
+import com.simjava.repository.projection.ChangeSignatureView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ShiftRepository extends JpaRepository<Shift, Long> {
+
+    @Query("SELECT COUNT(s) AS total, MAX(s.updatedAt) AS lastUpdatedAt FROM Shift s")
+    ChangeSignatureView findSignature();
+}
@@ -1,10 +1,25 @@
 package com.simjava.repository;
 
 import com.simjava.domain.security.Student;
+import com.simjava.repository.projection.ChangeSignatureView;
+import com.simjava.repository.projection.StudentGroupCountView;
+import com.simjava.repository.projection.StudentListView;
+import com.simjava.repository.projection.StudentRosterView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
@@ -12,4 +27,55 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByEmail(String email);
     boolean existsByNis(String nis);
     boolean existsByEmail(String email);
+
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.id AS id, s.namaLengkap AS namaLengkap FROM Student s " +
+           "WHERE s.classRoomId = :classRoomId AND s.id IN :ids")
+    List<StudentRosterView> findRosterByClassRoomIdAndIdIn(@Param("classRoomId") Long classRoomId,
+                                                           @Param("ids") Collection<Long> ids);
+
+    String LIST_SELECT = "SELECT s.id AS id, s.nis AS nis, s.namaLengkap AS namaLengkap, s.email AS email, " +
+            "s.telp AS telp, s.jenisKelamin AS jenisKelamin, s.agama AS agama, s.classRoomId AS classRoomId, " +
+            "s.userId AS userId, s.createdAt AS createdAt, s.updatedAt AS updatedAt FROM Student s ";
+
+    String LIST_FILTER = "WHERE (:classRoomId IS NULL OR s.classRoomId = :classRoomId) " +
+            "AND (:agama IS NULL OR s.agama = :agama) " +
+            "AND (:jenisKelamin IS NULL OR s.jenisKelamin = :jenisKelamin) ";
+
+    @Query(LIST_SELECT + "ORDER BY s.id")
+    List<StudentListView> findAllListViews();
+
+    @Query(value = LIST_SELECT + LIST_FILTER,
+           countQuery = "SELECT COUNT(s) FROM Student s " + LIST_FILTER)
+    Page<StudentListView> findListViews(@Param("classRoomId") Long classRoomId,
+                                        @Param("agama") String agama,
+                                        @Param("jenisKelamin") Character jenisKelamin,
+                                        Pageable pageable);
+
+    @Query("SELECT s.jenisKelamin AS jenisKelamin, s.classRoomId AS classRoomId, s.agama AS agama, COUNT(s) AS total " +
+           "FROM Student s GROUP BY s.jenisKelamin, s.classRoomId, s.agama")
+    List<StudentGroupCountView> countByGroup();
+
+    // Keyset: halaman berikutnya dimulai dari id > id terakhir halaman sebelumnya
+    @Query(LIST_SELECT + LIST_FILTER + "AND s.id > :afterId ORDER BY s.id")
+    List<StudentListView> findListViewsAfter(@Param("classRoomId") Long classRoomId,
+                                             @Param("agama") String agama,
+                                             @Param("jenisKelamin") Character jenisKelamin,
+                                             @Param("afterId") Long afterId,
+                                             Limit limit);
+
+    // Untuk ekspor: dibaca bertahap di dalam transaksi, Stream wajib ditutup
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(LIST_SELECT + LIST_FILTER + "ORDER BY s.id")
+    Stream<StudentListView> streamListViews(@Param("classRoomId") Long classRoomId,
+                                            @Param("agama") String agama,
+                                            @Param("jenisKelamin") Character jenisKelamin);
+
+    @Query("SELECT COUNT(s) AS total, MAX(s.updatedAt) AS lastUpdatedAt FROM Student s")
+    ChangeSignatureView findSignature();
 }
@@ -4,12 +4,14 @@ import com.simjava.domain.security.Teacher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+public interface TeacherRepository extends JpaRepository<Teacher, Long>, CursorPagingRepository<Teacher> {
     Optional<Teacher> findByNip(String nip);
     Optional<Teacher> findByEmail(String email);
     Optional<Teacher> findByUserId(Long userId);
@@ -17,7 +19,13 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
     boolean existsByNip(String nip);
     boolean existsByEmail(String email);
     
-    Page<Teacher> findByNamaLengkapContainingIgnoreCase(String name, Pageable pageable);
+    // lower(...) LIKE agar memakai indeks trigram V25; query turunan IgnoreCase menghasilkan upper(...).
+    // name harus sudah di-escape dengan LikePatterns.escape
+    @Query("SELECT t FROM Teacher t WHERE lower(t.namaLengkap) LIKE lower(concat('%', :name, '%')) ESCAPE '\\'")
+    Page<Teacher> findByNamaLengkapContainingIgnoreCase(@Param("name") String name, Pageable pageable);
     Page<Teacher> findByStatus(String status, Pageable pageable);
-    Page<Teacher> findByNamaLengkapContainingIgnoreCaseAndStatus(String name, String status, Pageable pageable);
+    @Query("SELECT t FROM Teacher t WHERE lower(t.namaLengkap) LIKE lower(concat('%', :name, '%')) ESCAPE '\\' AND t.status = :status")
+    Page<Teacher> findByNamaLengkapContainingIgnoreCaseAndStatus(@Param("name") String name,
+                                                                 @Param("status") String status,
+                                                                 Pageable pageable);
 } 
\ No newline at end of file
@@ -4,18 +4,26 @@ import com.simjava.domain.security.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, CursorPagingRepository<User> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
-    Page<User> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    // lower(...) LIKE agar memakai indeks trigram V25; query turunan IgnoreCase menghasilkan upper(...).
+    // name harus sudah di-escape dengan LikePatterns.escape
+    @Query("SELECT u FROM User u WHERE lower(u.name) LIKE lower(concat('%', :name, '%')) ESCAPE '\\'")
+    Page<User> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
 
     Page<User> findByUserType(String userType, Pageable pageable);
 
-    Page<User> findByNameContainingIgnoreCaseAndUserType(String name, String userType, Pageable pageable);
+    @Query("SELECT u FROM User u WHERE lower(u.name) LIKE lower(concat('%', :name, '%')) ESCAPE '\\' AND u.userType = :userType")
+    Page<User> findByNameContainingIgnoreCaseAndUserType(@Param("name") String name,
+                                                         @Param("userType") String userType,
+                                                         Pageable pageable);
 }
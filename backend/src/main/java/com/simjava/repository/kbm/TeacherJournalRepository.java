@@ -1,9 +1,23 @@
 package com.simjava.repository.kbm;
 
 import com.simjava.domain.kbm.TeacherJournal;
+import com.simjava.repository.CursorPagingRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+
 @Repository
-public interface TeacherJournalRepository extends JpaRepository<TeacherJournal, Long> {
-}
\ No newline at end of file
+public interface TeacherJournalRepository extends JpaRepository<TeacherJournal, Long>, CursorPagingRepository<TeacherJournal> {
+
+    // Memakai indeks (guru_id, tanggal); guru dan kegiatan mengajar diambil dalam query yang sama
+    @EntityGraph(attributePaths = {"teacher", "teachingActivity"})
+    Page<TeacherJournal> findByTeacherId(Long teacherId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"teacher", "teachingActivity"})
+    Page<TeacherJournal> findByTeacherIdAndDateBetween(Long teacherId, LocalDate startDate, LocalDate endDate,
+                                                       Pageable pageable);
+}
@@ -1,9 +1,21 @@
 package com.simjava.repository.kbm;
 
 import com.simjava.domain.kbm.TeachingActivityAttendance;
+import com.simjava.repository.projection.StatusCountView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface TeachingActivityAttendanceRepository extends JpaRepository<TeachingActivityAttendance, Long> {
-}
\ No newline at end of file
+
+    @Query("SELECT taa.status AS status, COUNT(taa) AS total FROM TeachingActivityAttendance taa " +
+           "JOIN taa.teachingActivity a WHERE a.tanggal BETWEEN :startDate AND :endDate " +
+           "GROUP BY taa.status")
+    List<StatusCountView> countByActivityTanggalBetween(@Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate);
+}
@@ -1,9 +1,48 @@
 package com.simjava.repository.kbm;
 
 import com.simjava.domain.kbm.TeachingActivity;
+import com.simjava.repository.CursorPagingRepository;
+import com.simjava.repository.projection.TeachingActivityGroupCountView;
+import com.simjava.repository.projection.UpcomingClassView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TeachingActivityRepository extends JpaRepository<TeachingActivity, Long> {
-}
\ No newline at end of file
+public interface TeachingActivityRepository extends JpaRepository<TeachingActivity, Long>, CursorPagingRepository<TeachingActivity> {
+
+    @Query("SELECT a.classRoomId FROM TeachingActivity a WHERE a.id = :id")
+    Optional<Long> findClassRoomIdById(@Param("id") Long id);
+
+    /**
+     * Agregat kegiatan mengajar per mata pelajaran, hari (ISO, 1 = Senin), guru dan kelas, ditambah
+     * satu baris TOTAL, dalam satu kali scan. Rata-rata durasi dihitung di database dari menit utuh
+     * per kegiatan (dibulatkan ke bawah, sama seperti ChronoUnit.MINUTES.between).
+     */
+    @Query(value = "SELECT CASE WHEN GROUPING(mata_pelajaran) = 0 THEN 'SUBJECT' " +
+                   "WHEN GROUPING(EXTRACT(ISODOW FROM tanggal)) = 0 THEN 'DAY_OF_WEEK' " +
+                   "WHEN GROUPING(guru_id) = 0 THEN 'TEACHER' " +
+                   "WHEN GROUPING(class_room_id) = 0 THEN 'CLASS' ELSE 'TOTAL' END AS dimension, " +
+                   "COALESCE(mata_pelajaran, CAST(CAST(EXTRACT(ISODOW FROM tanggal) AS integer) AS varchar), " +
+                   "CAST(guru_id AS varchar), CAST(class_room_id AS varchar)) AS \"groupKey\", " +
+                   "COUNT(*) AS total, " +
+                   "CAST(SUM(TRUNC(EXTRACT(EPOCH FROM (jam_selesai - jam_mulai)) / 60)) AS double precision) " +
+                   "/ NULLIF(COUNT(*), 0) AS \"averageDurationMinutes\" " +
+                   "FROM teaching_activities WHERE tanggal BETWEEN :startDate AND :endDate " +
+                   "GROUP BY GROUPING SETS ((mata_pelajaran), (EXTRACT(ISODOW FROM tanggal)), (guru_id), (class_room_id), ())",
+           nativeQuery = true)
+    List<TeachingActivityGroupCountView> countGroupsByTanggalBetween(@Param("startDate") LocalDate startDate,
+                                                                     @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a.id AS id, a.mataPelajaran AS mataPelajaran, a.tanggal AS tanggal, a.jamMulai AS jamMulai, " +
+           "a.jamSelesai AS jamSelesai, g.id AS guruId, g.name AS guruNama, a.classRoomId AS classRoomId " +
+           "FROM TeachingActivity a JOIN a.guru g WHERE a.tanggal BETWEEN :startDate AND :endDate " +
+           "ORDER BY a.tanggal, a.jamMulai")
+    List<UpcomingClassView> findUpcomingByTanggalBetween(@Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,13 @@
+package com.simjava.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Jumlah absensi per kombinasi tanggal, status dan tipe.
+ */
+public interface AttendanceCountView {
+    LocalDate getDate();
+    String getStatus();
+    String getType();
+    Long getTotal();
+}
@@ -0,0 +1,21 @@
+package com.simjava.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Baris ekspor absensi beserta identitas siswa.
+ */
+public interface AttendanceExportView {
+    Long getId();
+    Long getStudentId();
+    String getNis();
+    String getNamaLengkap();
+    Long getClassRoomId();
+    LocalDate getDate();
+    String getStatus();
+    String getType();
+    String getTimeIn();
+    String getTimeOut();
+    String getLocation();
+    String getNotes();
+}
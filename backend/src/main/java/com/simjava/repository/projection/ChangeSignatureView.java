@@ -0,0 +1,11 @@
+package com.simjava.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jumlah baris dan waktu perubahan terakhir sebuah tabel, untuk mendeteksi perubahan tanpa memuat semua baris.
+ */
+public interface ChangeSignatureView {
+    Long getTotal();
+    LocalDateTime getLastUpdatedAt();
+}
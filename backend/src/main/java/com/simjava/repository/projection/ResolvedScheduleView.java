@@ -0,0 +1,19 @@
+package com.simjava.repository.projection;
+
+import java.time.LocalTime;
+
+/**
+ * Jadwal pengguna yang sudah digabung dengan shift, kantor dan (jika ada) data siswanya.
+ */
+public interface ResolvedScheduleView {
+    Long getUserId();
+    Long getStudentId();
+    Long getShiftId();
+    String getShiftName();
+    LocalTime getStartTime();
+    LocalTime getEndTime();
+    Long getOfficeId();
+    String getOfficeName();
+    Boolean getWfa();
+    Boolean getBanned();
+}
@@ -0,0 +1,9 @@
+package com.simjava.repository.projection;
+
+/**
+ * Jumlah baris per status.
+ */
+public interface StatusCountView {
+    String getStatus();
+    Long getTotal();
+}
@@ -0,0 +1,11 @@
+package com.simjava.repository.projection;
+
+/**
+ * Jumlah siswa per kombinasi (jenis kelamin, kelas, agama).
+ */
+public interface StudentGroupCountView {
+    Character getJenisKelamin();
+    Long getClassRoomId();
+    String getAgama();
+    Long getTotal();
+}
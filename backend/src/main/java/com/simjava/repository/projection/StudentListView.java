@@ -0,0 +1,20 @@
+package com.simjava.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kolom daftar siswa, dibaca langsung tanpa hidrasi entitas.
+ */
+public interface StudentListView {
+    Long getId();
+    String getNis();
+    String getNamaLengkap();
+    String getEmail();
+    String getTelp();
+    Character getJenisKelamin();
+    String getAgama();
+    Long getClassRoomId();
+    Long getUserId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,9 @@
+package com.simjava.repository.projection;
+
+/**
+ * Id dan nama siswa untuk validasi daftar kelas.
+ */
+public interface StudentRosterView {
+    Long getId();
+    String getNamaLengkap();
+}
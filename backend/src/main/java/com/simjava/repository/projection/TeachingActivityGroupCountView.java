@@ -0,0 +1,13 @@
+package com.simjava.repository.projection;
+
+/**
+ * Satu baris agregat kegiatan mengajar dari query GROUPING SETS.
+ * {@code dimension} menandai pengelompokannya (SUBJECT, DAY_OF_WEEK, TEACHER, CLASS atau TOTAL)
+ * dan {@code groupKey} berisi nilai kelompoknya (null untuk TOTAL).
+ */
+public interface TeachingActivityGroupCountView {
+    String getDimension();
+    String getGroupKey();
+    Long getTotal();
+    Double getAverageDurationMinutes();
+}
@@ -0,0 +1,18 @@
+package com.simjava.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Ringkasan kegiatan mengajar untuk daftar kelas yang akan datang.
+ */
+public interface UpcomingClassView {
+    Long getId();
+    String getMataPelajaran();
+    LocalDate getTanggal();
+    LocalTime getJamMulai();
+    LocalTime getJamSelesai();
+    Long getGuruId();
+    String getGuruNama();
+    Long getClassRoomId();
+}
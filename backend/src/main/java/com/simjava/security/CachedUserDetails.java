@@ -0,0 +1,40 @@
+package com.simjava.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * Salinan immutable dari pengguna untuk {@link UserDetailsCache}: username, authorities, status
+ * akun dan id saja. Entitas JPA (hash password, asosiasi lazy) tidak ikut dibagi antar thread request.
+ */
+public final class CachedUserDetails extends User {
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+
+    private CachedUserDetails(Long id, String username, boolean enabled, boolean accountNonExpired,
+                              boolean credentialsNonExpired, boolean accountNonLocked,
+                              Collection<? extends GrantedAuthority> authorities) {
+        // Password tidak disimpan: principal dari JWT tidak pernah diautentikasi ulang dengan password
+        super(username, "", enabled, accountNonExpired, credentialsNonExpired, accountNonLocked, authorities);
+        this.id = id;
+    }
+
+    public static CachedUserDetails of(UserDetails user) {
+        Long id = user instanceof com.simjava.domain.security.User entity ? entity.getId() : null;
+        // Authority entitas membaca field role secara lazy, jadi nilainya disalin sekarang
+        Collection<GrantedAuthority> authorities = user.getAuthorities().stream()
+                .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority.getAuthority()))
+                .toList();
+        return new CachedUserDetails(id, user.getUsername(), user.isEnabled(), user.isAccountNonExpired(),
+                user.isCredentialsNonExpired(), user.isAccountNonLocked(), authorities);
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -1,8 +1,5 @@
 package com.simjava.security;
 
-// Firebase imports
-import com.google.firebase.auth.FirebaseToken;
-import com.simjava.service.FirebaseAuthService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,16 +8,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 
 @Component
 public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
@@ -28,10 +21,9 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(FirebaseAuthenticationFilter.class);
     
     @Autowired
-    private FirebaseAuthService firebaseAuthService;
+    private FirebaseTokenCache firebaseTokenCache;
 
     @Override
-    @SuppressWarnings("unchecked")
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
@@ -48,37 +40,12 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
         String idToken = authorizationHeader.substring(7);
         
         try {
-            // Verifikasi token Firebase
-            FirebaseToken decodedToken = firebaseAuthService.verifyToken(idToken);
-            
-            // Buat daftar otoritas (roles) berdasarkan klaim kustom
-            List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-            
-            // Periksa apakah ada klaim kustom 'role' atau 'roles'
-            Map<String, Object> claims = decodedToken.getClaims();
-            
-            // Periksa klaim 'role' (string tunggal)
-            if (claims.containsKey("role")) {
-                String role = (String) claims.get("role");
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
-            }
-            
-            // Periksa klaim 'roles' (array string)
-            if (claims.containsKey("roles")) {
-                List<String> roles = (List<String>) claims.get("roles");
-                for (String role : roles) {
-                    authorities.add(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
-                }
-            }
-            
-            // Tambahkan role default jika tidak ada role yang ditemukan
-            if (authorities.isEmpty()) {
-                authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
-            }
+            // Verifikasi token Firebase (hasil verifikasi di-cache sampai token kedaluwarsa)
+            FirebasePrincipal principal = firebaseTokenCache.verify(idToken);
             
             // Buat objek autentikasi Spring Security
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    decodedToken.getUid(), idToken, authorities);
+                    principal.getUid(), idToken, principal.getAuthorities());
             
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             
@@ -86,9 +53,9 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(authentication);
             
             // Tambahkan informasi pengguna ke request attributes
-            request.setAttribute("firebaseUser", decodedToken);
+            request.setAttribute("firebaseUser", principal);
             
-            logger.info("Firebase Authentication successful for user: {}", decodedToken.getEmail());
+            logger.debug("Firebase Authentication successful for user: {}", principal.getEmail());
             
         } catch (Exception e) {
             logger.error("Firebase Authentication failed: {}", e.getMessage());
@@ -97,4 +64,4 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.simjava.security;
 
-import com.google.firebase.auth.FirebaseToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -30,13 +29,13 @@ public class FirebaseAuthenticationUtil {
     /**
      * Mendapatkan token Firebase yang terautentikasi
      * 
-     * @return FirebaseToken atau null jika tidak tersedia
+     * @return FirebasePrincipal atau null jika tidak tersedia
      */
-    public static FirebaseToken getFirebaseToken() {
+    public static FirebasePrincipal getFirebaseToken() {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes != null) {
             HttpServletRequest request = attributes.getRequest();
-            return (FirebaseToken) request.getAttribute("firebaseUser");
+            return (FirebasePrincipal) request.getAttribute("firebaseUser");
         }
         return null;
     }
@@ -47,7 +46,7 @@ public class FirebaseAuthenticationUtil {
      * @return Email pengguna atau null jika tidak tersedia
      */
     public static String getEmail() {
-        FirebaseToken token = getFirebaseToken();
+        FirebasePrincipal token = getFirebaseToken();
         return token != null ? token.getEmail() : null;
     }
     
@@ -57,7 +56,7 @@ public class FirebaseAuthenticationUtil {
      * @return Nama tampilan pengguna atau null jika tidak tersedia
      */
     public static String getDisplayName() {
-        FirebaseToken token = getFirebaseToken();
+        FirebasePrincipal token = getFirebaseToken();
         return token != null ? token.getName() : null;
     }
     
@@ -68,7 +67,7 @@ public class FirebaseAuthenticationUtil {
      * @return true jika pengguna memiliki klaim, false jika tidak
      */
     public static boolean hasClaim(String claimName) {
-        FirebaseToken token = getFirebaseToken();
+        FirebasePrincipal token = getFirebaseToken();
         if (token != null) {
             Map<String, Object> claims = token.getClaims();
             return claims.containsKey(claimName);
@@ -83,7 +82,7 @@ public class FirebaseAuthenticationUtil {
      * @return Nilai klaim atau null jika tidak tersedia
      */
     public static Object getClaim(String claimName) {
-        FirebaseToken token = getFirebaseToken();
+        FirebasePrincipal token = getFirebaseToken();
         if (token != null) {
             Map<String, Object> claims = token.getClaims();
             return claims.get(claimName);
@@ -99,7 +98,7 @@ public class FirebaseAuthenticationUtil {
      * @return Optional yang berisi nilai klaim atau empty jika tidak tersedia
      */
     public static <T> Optional<T> getClaim(String claimName, Class<T> clazz) {
-        FirebaseToken token = getFirebaseToken();
+        FirebasePrincipal token = getFirebaseToken();
         if (token != null) {
             Map<String, Object> claims = token.getClaims();
             Object value = claims.get(claimName);
@@ -0,0 +1,57 @@
+package com.simjava.security;
+
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hasil verifikasi token ID Firebase. Authorities dihitung sekali saat token
+ * diverifikasi sehingga entri cache bisa dipakai ulang tanpa membangun ulang daftar role.
+ */
+@Value
+public class FirebasePrincipal {
+    String uid;
+    String email;
+    String name;
+    Map<String, Object> claims;
+    List<GrantedAuthority> authorities;
+    Instant expiresAt;
+
+    // Klaim Firebase boleh bernilai null, jadi tidak memakai Map.copyOf
+    public static FirebasePrincipal of(String uid, String email, String name,
+                                       Map<String, Object> claims, Instant expiresAt) {
+        return new FirebasePrincipal(uid, email, name, Collections.unmodifiableMap(new HashMap<>(claims)), authoritiesFrom(claims), expiresAt);
+    }
+
+    private static List<GrantedAuthority> authoritiesFrom(Map<String, Object> claims) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+
+        // Klaim 'role' (string tunggal)
+        Object role = claims.get("role");
+        if (role instanceof String) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + ((String) role).toUpperCase()));
+        }
+
+        // Klaim 'roles' (array string)
+        Object roles = claims.get("roles");
+        if (roles instanceof Collection) {
+            for (Object r : (Collection<?>) roles) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + String.valueOf(r).toUpperCase()));
+            }
+        }
+
+        // Role default jika tidak ada role yang ditemukan
+        if (authorities.isEmpty()) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        }
+        return List.copyOf(authorities);
+    }
+}
@@ -0,0 +1,30 @@
+package com.simjava.security;
+
+import com.google.firebase.auth.FirebaseToken;
+import com.simjava.service.FirebaseAuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Verifikasi token lewat Firebase Admin SDK (kunci publik Google diambil dari jaringan).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.firebase.token-verification.mode", havingValue = "sdk", matchIfMissing = true)
+public class FirebaseSdkTokenVerifier implements FirebaseTokenVerifier {
+
+    private final FirebaseAuthService firebaseAuthService;
+
+    @Override
+    public FirebasePrincipal verify(String idToken) {
+        FirebaseToken token = firebaseAuthService.verifyToken(idToken);
+        Map<String, Object> claims = token.getClaims();
+        Object exp = claims.get("exp");
+        Instant expiresAt = exp instanceof Number ? Instant.ofEpochSecond(((Number) exp).longValue()) : Instant.now();
+        return FirebasePrincipal.of(token.getUid(), token.getEmail(), token.getName(), claims, expiresAt);
+    }
+}
@@ -0,0 +1,46 @@
+package com.simjava.security;
+
+import com.simjava.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Cache hasil verifikasi token Firebase. Kunci cache adalah hash SHA-256 token
+ * (token mentah tidak disimpan) dan entri kedaluwarsa paling lambat saat token kedaluwarsa.
+ * Token yang gagal diverifikasi tidak di-cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirebaseTokenCache {
+
+    private final FirebaseTokenVerifier firebaseTokenVerifier;
+    private final CacheManager cacheManager;
+
+    public FirebasePrincipal verify(String idToken) {
+        try {
+            return cache().get(hash(idToken), () -> firebaseTokenVerifier.verify(idToken));
+        } catch (Cache.ValueRetrievalException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.FIREBASE_TOKEN_CACHE);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
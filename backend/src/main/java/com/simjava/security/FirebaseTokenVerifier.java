@@ -0,0 +1,15 @@
+package com.simjava.security;
+
+/**
+ * Memverifikasi token ID Firebase menjadi {@link FirebasePrincipal}.
+ * Implementasi dipilih lewat {@code app.firebase.token-verification.mode}.
+ */
+public interface FirebaseTokenVerifier {
+
+    /**
+     * @param idToken token ID dari header Authorization
+     * @return principal yang sudah diverifikasi
+     * @throws RuntimeException jika token tidak valid
+     */
+    FirebasePrincipal verify(String idToken);
+}
@@ -0,0 +1,15 @@
+package com.simjava.security;
+
+import lombok.Value;
+
+import java.util.Date;
+
+/**
+ * Klaim JWT yang sudah diverifikasi tanda tangan dan masa berlakunya.
+ */
+@Value
+public class JwtClaims {
+    String subject;
+    Date issuedAt;
+    Date expiration;
+}
@@ -1,6 +1,8 @@
 package com.simjava.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import jakarta.annotation.PostConstruct;
@@ -26,13 +29,36 @@ public class JwtTokenProvider {
 
     private SecretKey key;
 
+    // JwtParser bersifat immutable dan thread-safe, cukup dibuat sekali
+    private JwtParser parser;
+
     @PostConstruct
     protected void init() {
         key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(key).build();
+    }
+
+    /**
+     * Verifikasi tanda tangan dan masa berlaku token dalam satu kali parsing.
+     *
+     * @param token JWT dari header Authorization
+     * @return klaim token, atau empty jika token tidak valid atau kedaluwarsa
+     */
+    public Optional<JwtClaims> parseAndValidate(String token) {
+        try {
+            Claims claims = getAllClaimsFromToken(token);
+            // Parser sudah menolak token kedaluwarsa; token tanpa exp juga dianggap tidak valid
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new JwtClaims(claims.getSubject(), claims.getIssuedAt(), claims.getExpiration()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     public String getUsernameFromToken(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+        return getClaimFromToken(token, Claims::getSubject);
     }
 
     public Date getExpirationDateFromToken(String token) {
@@ -45,12 +71,7 @@ public class JwtTokenProvider {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        final Date expirationDate = getExpirationDateFromToken(token);
-        return expirationDate.before(new Date());
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public String generateToken(Authentication authentication) {
@@ -67,11 +88,6 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+        return parseAndValidate(token).isPresent();
     }
 }
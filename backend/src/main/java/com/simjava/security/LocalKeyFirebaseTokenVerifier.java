@@ -0,0 +1,108 @@
+package com.simjava.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verifikasi token ID Firebase secara offline dengan kunci publik dari file lokal.
+ * <p>
+ * Format file sama dengan endpoint x509 Google: objek JSON {@code kid -> PEM}. Nilai PEM boleh
+ * berupa {@code CERTIFICATE} maupun {@code PUBLIC KEY}, sehingga issuer pengganti untuk
+ * pengujian cukup menerbitkan pasangan kunci RSA biasa.
+ */
+@Component
+@ConditionalOnProperty(name = "app.firebase.token-verification.mode", havingValue = "local-keys")
+public class LocalKeyFirebaseTokenVerifier implements FirebaseTokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalKeyFirebaseTokenVerifier.class);
+
+    private final JwtParser parser;
+
+    public LocalKeyFirebaseTokenVerifier(
+            @Value("${app.firebase.token-verification.key-file}") String keyFile,
+            @Value("${app.firebase.project-id}") String projectId,
+            @Value("${app.firebase.token-verification.issuer:}") String issuer) {
+        Map<String, PublicKey> keys = loadKeys(Path.of(keyFile));
+        String expectedIssuer = issuer.isEmpty() ? "https://securetoken.google.com/" + projectId : issuer;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        PublicKey key = header.getKeyId() != null ? keys.get(header.getKeyId()) : null;
+                        if (key == null) {
+                            throw new JwtException("Unknown signing key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .requireIssuer(expectedIssuer)
+                .requireAudience(projectId)
+                .build();
+        logger.info("Loaded {} Firebase signing key(s) from {}", keys.size(), keyFile);
+    }
+
+    @Override
+    public FirebasePrincipal verify(String idToken) {
+        try {
+            Claims claims = parser.parseSignedClaims(idToken).getPayload();
+            if (claims.getSubject() == null || claims.getSubject().isEmpty() || claims.getExpiration() == null) {
+                throw new JwtException("Firebase ID token has no subject or expiration");
+            }
+            return FirebasePrincipal.of(claims.getSubject(), claims.get("email", String.class),
+                    claims.get("name", String.class), claims, claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Error verifying Firebase ID token: {}", e.getMessage());
+            throw new RuntimeException("Unauthorized: Invalid Firebase ID token", e);
+        }
+    }
+
+    private static Map<String, PublicKey> loadKeys(Path keyFile) {
+        try {
+            Map<String, String> pems = new ObjectMapper().readValue(Files.readAllBytes(keyFile),
+                    new TypeReference<Map<String, String>>() { });
+            Map<String, PublicKey> keys = new HashMap<>();
+            for (Map.Entry<String, String> entry : pems.entrySet()) {
+                keys.put(entry.getKey(), parsePublicKey(entry.getValue()));
+            }
+            return Map.copyOf(keys);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to load Firebase signing keys from " + keyFile, e);
+        }
+    }
+
+    private static PublicKey parsePublicKey(String pem) throws GeneralSecurityException {
+        if (pem.contains("BEGIN CERTIFICATE")) {
+            return CertificateFactory.getInstance("X.509")
+                    .generateCertificate(new ByteArrayInputStream(pem.getBytes(StandardCharsets.US_ASCII)))
+                    .getPublicKey();
+        }
+        String base64 = pem.replaceAll("-----(BEGIN|END) PUBLIC KEY-----", "").replaceAll("\\s", "");
+        return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64)));
+    }
+}
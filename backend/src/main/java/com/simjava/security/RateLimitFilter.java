@@ -0,0 +1,77 @@
+package com.simjava.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simjava.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batasi jumlah request per menit per pengguna (atau per alamat IP untuk request tanpa autentikasi).
+ * Dipasang setelah filter autentikasi agar admin mendapat batas yang lebih tinggi.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled = true;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long waitNanos;
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            waitNanos = rateLimiter.tryAcquire("ip:" + request.getRemoteAddr(), false);
+        } else {
+            waitNanos = rateLimiter.tryAcquire("user:" + authentication.getName(), isAdmin(authentication));
+        }
+
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("Terlalu banyak request, coba lagi dalam " + retryAfterSeconds + " detik"));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if ("ROLE_ADMIN".equals(name) || "ROLE_SUPER_ADMIN".equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
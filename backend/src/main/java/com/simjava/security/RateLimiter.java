@@ -0,0 +1,95 @@
+package com.simjava.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per principal tanpa lock.
+ *
+ * Setiap bucket hanya menyimpan satu waktu (nanoTime) kapan bucket akan penuh kembali
+ * ("theoretical arrival time"); mengambil token berarti memajukan waktu itu satu interval
+ * lewat compare-and-set. Bucket disimpan di ConcurrentHashMap sehingga principal berbeda
+ * tidak saling bersaing, dan bucket yang sudah lama penuh dihapus secara berkala.
+ */
+@Component
+public class RateLimiter {
+
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long userIntervalNanos;
+    private final long adminIntervalNanos;
+    private final long userCapacityNanos;
+    private final long adminCapacityNanos;
+    private final long idleNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RateLimiter(@Value("${app.rate-limit.requests-per-minute:100}") int requestsPerMinute,
+                       @Value("${app.rate-limit.admin-requests-per-minute:1000}") int adminRequestsPerMinute,
+                       @Value("${app.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        this(requestsPerMinute, adminRequestsPerMinute, idleTimeout, System::nanoTime);
+    }
+
+    RateLimiter(int requestsPerMinute, int adminRequestsPerMinute, Duration idleTimeout, LongSupplier clock) {
+        if (requestsPerMinute <= 0 || adminRequestsPerMinute <= 0) {
+            throw new IllegalArgumentException("Batas request per menit harus lebih dari 0");
+        }
+        long minute = TimeUnit.MINUTES.toNanos(1);
+        this.userIntervalNanos = minute / requestsPerMinute;
+        this.adminIntervalNanos = minute / adminRequestsPerMinute;
+        this.userCapacityNanos = userIntervalNanos * requestsPerMinute;
+        this.adminCapacityNanos = adminIntervalNanos * adminRequestsPerMinute;
+        this.idleNanos = idleTimeout.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Ambil satu token untuk {@code key}.
+     *
+     * @return 0 jika request diizinkan, atau lama menunggu (nanodetik) sampai token berikutnya tersedia
+     */
+    public long tryAcquire(String key, boolean admin) {
+        long interval = admin ? adminIntervalNanos : userIntervalNanos;
+        long capacity = admin ? adminCapacityNanos : userCapacityNanos;
+        long now = clock.getAsLong();
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long full = bucket.get();
+            long next = Math.max(full, now) + interval;
+            long excess = next - now - capacity;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Hapus bucket yang sudah penuh kembali sejak lebih dari idle-timeout. Request yang bersamaan
+     * dengan penghapusan paling banyak kehilangan satu token yang sudah diambil dari bucket penuh.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(bucket -> now - bucket.get() > idleNanos);
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+}
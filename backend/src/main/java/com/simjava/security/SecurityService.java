@@ -1,12 +1,22 @@
 package com.simjava.security;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+import java.util.Optional;
+
 @Service
+@RequiredArgsConstructor
 public class SecurityService {
 
+    private final UserDetailsCache userDetailsCache;
+
     /**
      * Checks if the authenticated user is the user with the given ID.
      * 
@@ -14,19 +24,58 @@ public class SecurityService {
      * @return true if the authenticated user has the same ID, false otherwise
      */
     public boolean isCurrentUser(Long userId) {
+        return userId != null && findCurrentUserId().map(id -> Objects.equals(id, userId)).orElse(false);
+    }
+
+    /**
+     * Apakah pengguna yang sedang login memiliki ROLE_ADMIN (sama dengan hasRole('ADMIN')).
+     */
+    public boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && authentication.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+
+    /**
+     * ID pengguna yang sedang login.
+     *
+     * @throws AccessDeniedException jika pengguna tidak dikenali
+     */
+    public Long getCurrentUserId() {
+        return findCurrentUserId().orElseThrow(() -> new AccessDeniedException("Pengguna saat ini tidak dikenali"));
+    }
+
+    /**
+     * ID pengguna yang sedang login, atau empty jika tidak dikenali.
+     */
+    public Optional<Long> findCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
-            return false;
+            return Optional.empty();
         }
-        
+
+        // Principal JWT sudah berupa CachedUserDetails dari UserDetailsCache
         Object principal = authentication.getPrincipal();
-        if (principal instanceof org.springframework.security.core.userdetails.User) {
-            String username = ((org.springframework.security.core.userdetails.User) principal).getUsername();
-            // Assuming username is the user's email
-            // We need to check if this email belongs to the user with the given ID
-            return username != null && !username.isEmpty();
+        if (principal instanceof CachedUserDetails cached && cached.getId() != null) {
+            return Optional.of(cached.getId());
+        }
+
+        // Username JWT adalah email pengguna; token Firebase membawa email di klaimnya
+        String email = null;
+        if (principal instanceof UserDetails) {
+            email = ((UserDetails) principal).getUsername();
+        } else if (principal instanceof String && !"anonymousUser".equals(principal)) {
+            email = FirebaseAuthenticationUtil.getEmail();
+        }
+
+        if (email == null || email.isEmpty()) {
+            return Optional.empty();
+        }
+        // Lewat cache agar endpoint yang sering di-poll tidak menjalankan SELECT per request
+        try {
+            return Optional.ofNullable(userDetailsCache.get(email).getId());
+        } catch (UsernameNotFoundException e) {
+            return Optional.empty();
         }
-        
-        return false;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.simjava.security;
+
+import com.simjava.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache UserDetails per subject JWT agar request yang terautentikasi tidak
+ * selalu memanggil UserRepository.findByEmail. Yang disimpan adalah
+ * {@link CachedUserDetails} immutable, bukan entitas User.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache {
+
+    private final UserDetailsService userDetailsService;
+    private final CacheManager cacheManager;
+
+    public CachedUserDetails get(String username) {
+        try {
+            return cache().get(username, () -> CachedUserDetails.of(userDetailsService.loadUserByUsername(username)));
+        } catch (Cache.ValueRetrievalException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Hapus entri sekarang dan, bila dipanggil di dalam transaksi, sekali lagi setelah commit
+     * agar request yang berjalan bersamaan tidak menyimpan kembali data lama.
+     */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache().evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(username);
+                }
+            });
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
+    }
+}
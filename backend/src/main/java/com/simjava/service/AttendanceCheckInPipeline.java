@@ -0,0 +1,185 @@
+package com.simjava.service;
+
+import com.simjava.dto.AttendanceRequest;
+import com.simjava.dto.AttendanceResponse;
+import com.simjava.exception.ServiceUnavailableException;
+import com.simjava.service.schedule.CheckInPolicyService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jalur check-in bervolume tinggi untuk jam masuk sekolah.
+ *
+ * Check-in dimasukkan ke antrian terbatas lalu ditulis oleh satu thread writer dalam
+ * micro-batch (maksimal batch-size baris atau setiap flush-interval). Future setiap
+ * check-in baru selesai setelah batch-nya di-commit, sehingga respons sukses berarti
+ * data sudah tersimpan. Jika antrian penuh, check-in ditolak dengan 503 + Retry-After.
+ */
+@Service
+public class AttendanceCheckInPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceCheckInPipeline.class);
+
+    private final AttendanceCheckInWriter writer;
+    private final CheckInPolicyService checkInPolicyService;
+    private final BlockingQueue<PendingCheckIn> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long enqueueTimeoutMillis;
+    private final Thread writerThread;
+
+    private volatile boolean running;
+
+    public AttendanceCheckInPipeline(AttendanceCheckInWriter writer,
+                                     CheckInPolicyService checkInPolicyService,
+                                     @Value("${app.attendance.check-in.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${app.attendance.check-in.batch-size:500}") int batchSize,
+                                     @Value("${app.attendance.check-in.flush-interval:50ms}") Duration flushInterval,
+                                     @Value("${app.attendance.check-in.enqueue-timeout:100ms}") Duration enqueueTimeout) {
+        this.writer = writer;
+        this.checkInPolicyService = checkInPolicyService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.enqueueTimeoutMillis = enqueueTimeout.toMillis();
+        this.writerThread = new Thread(this::runWriter, "attendance-check-in-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Writer menghabiskan antrian yang tersisa sebelum berhenti
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        if (!writerThread.isAlive()) {
+            rejectLeftovers();
+        }
+    }
+
+    public CompletableFuture<AttendanceResponse> submit(AttendanceRequest request) {
+        if (!running) {
+            throw new ServiceUnavailableException("Layanan check-in sedang tidak aktif", 5);
+        }
+        // Lokasi divalidasi sebelum masuk antrian agar check-in yang ditolak tidak memakai slot batch
+        boolean late = checkInPolicyService.apply(request);
+        PendingCheckIn pending = new PendingCheckIn(request, late);
+        try {
+            if (!queue.offer(pending, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("Antrian check-in penuh, silakan coba lagi", 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Check-in dibatalkan, silakan coba lagi", 1);
+        }
+        // stop() bisa terjadi di antara pengecekan running dan offer; bila writer sudah berhenti
+        // tidak ada yang akan mengambil check-in ini lagi
+        if (!running && !writerThread.isAlive()) {
+            rejectLeftovers();
+        }
+        return pending.getResult();
+    }
+
+    private void rejectLeftovers() {
+        List<PendingCheckIn> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        for (PendingCheckIn pending : leftovers) {
+            pending.getResult().completeExceptionally(
+                    new ServiceUnavailableException("Layanan check-in sedang tidak aktif", 5));
+        }
+    }
+
+    private void runWriter() {
+        List<PendingCheckIn> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCheckIn first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingCheckIn next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                logger.warn("Check-in writer interrupted, flushing {} pending check-ins", batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingCheckIn> batch) {
+        try {
+            writer.write(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1 || isUnavailable(e)) {
+                logger.error("Failed to write batch of {} check-ins: {}", batch.size(), e.getMessage());
+                batch.forEach(pending -> pending.getResult().completeExceptionally(e));
+            } else {
+                // Satu baris bermasalah tidak boleh menggagalkan check-in lain: belah batch sampai baris itu terisolasi
+                logger.warn("Failed to write batch of {} check-ins, retrying in halves: {}", batch.size(), e.getMessage());
+                int half = batch.size() / 2;
+                flush(batch.subList(0, half));
+                flush(batch.subList(half, batch.size()));
+            }
+        }
+        for (PendingCheckIn pending : batch) {
+            if (!pending.getResult().isDone()) {
+                pending.getResult().completeExceptionally(new IllegalStateException("Check-in tidak diproses"));
+            }
+        }
+    }
+
+    // Database tidak tersedia: membelah batch hanya menambah percobaan yang pasti gagal
+    private static boolean isUnavailable(RuntimeException e) {
+        return e instanceof DataAccessResourceFailureException || e instanceof CannotCreateTransactionException;
+    }
+
+    @Getter
+    public static class PendingCheckIn {
+        private final AttendanceRequest request;
+        // Dihitung server oleh CheckInPolicyService, bukan bagian dari request klien
+        private final boolean late;
+        private final CompletableFuture<AttendanceResponse> result = new CompletableFuture<>();
+
+        PendingCheckIn(AttendanceRequest request, boolean late) {
+            this.request = request;
+            this.late = late;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.simjava.service;
+
+import com.simjava.dto.AttendanceResponse;
+import com.simjava.event.AttendanceRecordedEvent;
+import com.simjava.exception.ResourceNotFoundException;
+import com.simjava.repository.AttendanceJdbcRepository;
+import com.simjava.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Menulis satu micro-batch check-in dalam satu transaksi dan menyelesaikan
+ * future setiap check-in setelah transaksi di-commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceCheckInWriter {
+
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    public void write(List<AttendanceCheckInPipeline.PendingCheckIn> batch) {
+        Set<Long> studentIds = batch.stream()
+                .map(pending -> pending.getRequest().getStudentId())
+                .collect(Collectors.toSet());
+
+        List<AttendanceCheckInPipeline.PendingCheckIn> accepted = new ArrayList<>();
+        List<AttendanceCheckInPipeline.PendingCheckIn> rejected = new ArrayList<>();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<AttendanceJdbcRepository.UpsertResult> saved = transactionTemplate.execute(status -> {
+            Set<Long> existingIds = new HashSet<>(studentRepository.findExistingIds(studentIds));
+            for (AttendanceCheckInPipeline.PendingCheckIn pending : batch) {
+                (existingIds.contains(pending.getRequest().getStudentId()) ? accepted : rejected).add(pending);
+            }
+
+            List<AttendanceJdbcRepository.CheckIn> checkIns = accepted.stream()
+                    .map(pending -> new AttendanceJdbcRepository.CheckIn(pending.getRequest(), pending.isLate()))
+                    .collect(Collectors.toList());
+            List<AttendanceJdbcRepository.UpsertResult> results = attendanceJdbcRepository.upsertAll(checkIns);
+
+            // Check-in ulang mengembalikan baris asli dan tidak dihitung lagi di rekap
+            List<AttendanceResponse> created = results.stream()
+                    .filter(AttendanceJdbcRepository.UpsertResult::isCreated)
+                    .map(AttendanceJdbcRepository.UpsertResult::getAttendance)
+                    .collect(Collectors.toList());
+            if (!created.isEmpty()) {
+                eventPublisher.publishEvent(new AttendanceRecordedEvent(created));
+            }
+            return results;
+        });
+
+        // Acknowledge hanya setelah commit
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).getResult().complete(saved.get(i).getAttendance());
+        }
+        for (AttendanceCheckInPipeline.PendingCheckIn pending : rejected) {
+            pending.getResult().completeExceptionally(new ResourceNotFoundException("Student not found"));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.simjava.service;
+
+import com.simjava.dto.AttendanceRecapResponse;
+import com.simjava.exception.ResourceNotFoundException;
+import com.simjava.repository.AttendanceRecapJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rekap absensi per siswa per semester dari materialized view attendance_semester_recap.
+ *
+ * View di-refresh CONCURRENTLY secara berkala dan setelah rebuild rekap absensi (mis. setelah import massal).
+ * Permintaan refresh yang datang saat refresh masih berjalan digabung menjadi satu refresh berikutnya.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceRecapService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceRecapService.class);
+
+    private final AttendanceRecapJdbcRepository recapRepository;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    private ExecutorService refreshExecutor;
+
+    @PostConstruct
+    void init() {
+        // Satu thread: refresh tidak pernah berjalan bersamaan
+        refreshExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("attendance-recap-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    /**
+     * @param schoolYearId null berarti tahun ajaran yang sedang aktif
+     */
+    public Page<AttendanceRecapResponse> getClassRecap(Long classRoomId, Long schoolYearId, Pageable pageable) {
+        Long yearId = schoolYearId;
+        if (yearId == null) {
+            yearId = recapRepository.findActiveSchoolYearId()
+                    .orElseThrow(() -> new ResourceNotFoundException("Tidak ada tahun ajaran aktif"));
+        } else if (!recapRepository.existsSchoolYear(yearId)) {
+            throw new ResourceNotFoundException("School year not found with id: " + yearId);
+        }
+
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.max(1, Math.min(pageable.getPageSize(), maxPageSize)));
+        List<AttendanceRecapResponse> items = recapRepository.findByClassRoom(classRoomId, yearId,
+                page.getPageSize(), page.getOffset());
+        return new PageImpl<>(items, page, recapRepository.countStudentsInClassRoom(classRoomId));
+    }
+
+    /**
+     * Jadwalkan refresh di background; tidak menunggu refresh selesai.
+     */
+    public void requestRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                refreshPending.set(false);
+                refresh();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.attendance.recap.refresh-interval-ms:900000}")
+    public void scheduledRefresh() {
+        requestRefresh();
+    }
+
+    void refresh() {
+        long start = System.nanoTime();
+        try {
+            recapRepository.refresh();
+            logger.debug("Refreshed attendance_semester_recap in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.error("Failed to refresh attendance_semester_recap: {}", e.getMessage());
+        }
+    }
+}
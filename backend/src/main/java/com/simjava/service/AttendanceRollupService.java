@@ -0,0 +1,132 @@
+package com.simjava.service;
+
+import com.simjava.domain.security.AttendanceDailyRollup;
+import com.simjava.dto.AttendanceResponse;
+import com.simjava.event.AttendanceRecordedEvent;
+import com.simjava.exception.BadRequestException;
+import com.simjava.repository.AttendanceDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Memelihara tabel attendance_daily_rollup.
+ * Penambahan dilakukan di transaksi yang sama dengan penyimpanan absensi,
+ * sedangkan rebuild menghitung ulang rentang tanggal dari tabel attendances.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceRollupService.class);
+
+    private static final Comparator<AttendanceDailyRollup.Key> KEY_ORDER = Comparator
+            .comparing(AttendanceDailyRollup.Key::getDate)
+            .thenComparing(AttendanceDailyRollup.Key::getStatus)
+            .thenComparing(AttendanceDailyRollup.Key::getType);
+
+    private final AttendanceDailyRollupRepository rollupRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final AttendanceRecapService attendanceRecapService;
+
+    @Value("${app.attendance.rollup.rebuild-chunk-days:7}")
+    private int rebuildChunkDays;
+
+    @Value("${app.attendance.rollup.rebuild-parallelism:4}")
+    private int rebuildParallelism;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onAttendanceRecorded(AttendanceRecordedEvent event) {
+        // Urutkan kunci agar transaksi yang berjalan bersamaan mengunci baris dengan urutan yang sama
+        Map<AttendanceDailyRollup.Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        for (AttendanceResponse attendance : event.getAttendances()) {
+            AttendanceDailyRollup.Key key = new AttendanceDailyRollup.Key(
+                    attendance.getDate(), attendance.getStatus(), attendance.getType());
+            deltas.merge(key, 1L, Long::sum);
+        }
+        // Tunggu rebuild yang sedang menghitung ulang tanggal yang sama (urut tanggal, sama seperti rebuild)
+        deltas.keySet().stream().map(AttendanceDailyRollup.Key::getDate).distinct()
+                .forEach(date -> rollupRepository.lockDateShared((int) date.toEpochDay()));
+        deltas.forEach((key, delta) ->
+                rollupRepository.increment(key.getDate(), key.getStatus(), key.getType(), delta));
+    }
+
+    /**
+     * Hitung ulang rekap untuk rentang tanggal, dibagi per potongan beberapa hari
+     * yang diproses paralel. Setiap potongan berjalan di transaksinya sendiri, mengunci
+     * tanggal-tanggalnya terhadap check-in, dan aman untuk dijalankan ulang.
+     */
+    public Map<String, Object> rebuild(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new BadRequestException("Rentang tanggal tidak valid");
+        }
+
+        List<LocalDate[]> chunks = new ArrayList<>();
+        for (LocalDate chunkStart = startDate; !chunkStart.isAfter(endDate); chunkStart = chunkStart.plusDays(rebuildChunkDays)) {
+            LocalDate chunkEnd = chunkStart.plusDays(rebuildChunkDays - 1L);
+            chunks.add(new LocalDate[]{chunkStart, chunkEnd.isAfter(endDate) ? endDate : chunkEnd});
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(rebuildParallelism, chunks.size()));
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (LocalDate[] chunk : chunks) {
+                futures.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                    // Tanpa kunci ini, check-in yang membuat kunci rekap baru di antara DELETE dan
+                    // INSERT ... SELECT membuat INSERT melanggar primary key
+                    for (LocalDate date = chunk[0]; !date.isAfter(chunk[1]); date = date.plusDays(1)) {
+                        rollupRepository.lockDateExclusive((int) date.toEpochDay());
+                    }
+                    rollupRepository.deleteByDateBetween(chunk[0], chunk[1]);
+                    return rollupRepository.insertFromAttendances(chunk[0], chunk[1]);
+                })));
+            }
+
+            long rows = 0;
+            List<String> failedChunks = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    rows += futures.get(i).get();
+                } catch (ExecutionException e) {
+                    logger.error("Failed to rebuild attendance rollup for {} - {}: {}",
+                            chunks.get(i)[0], chunks.get(i)[1], e.getCause().getMessage());
+                    failedChunks.add(chunks.get(i)[0] + ".." + chunks.get(i)[1]);
+                }
+            }
+            if (!failedChunks.isEmpty()) {
+                throw new IllegalStateException("Rebuild rekap absensi gagal untuk rentang: " + failedChunks);
+            }
+
+            // Rebuild biasanya dijalankan setelah import massal; rekap semester ikut diperbarui
+            attendanceRecapService.requestRefresh();
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("startDate", startDate);
+            result.put("endDate", endDate);
+            result.put("chunks", chunks.size());
+            result.put("rows", rows);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rebuild rekap absensi dibatalkan", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.simjava.service;
 
 import com.simjava.domain.security.Attendance;
-import com.simjava.domain.security.Student;
 import com.simjava.dto.AttendanceRequest;
 import com.simjava.dto.AttendanceResponse;
+import com.simjava.event.AttendanceRecordedEvent;
 import com.simjava.exception.ResourceNotFoundException;
+import com.simjava.repository.AttendanceJdbcRepository;
 import com.simjava.repository.AttendanceRepository;
 import com.simjava.repository.StudentRepository;
+import com.simjava.service.schedule.CheckInPolicyService;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -19,25 +23,28 @@ import java.util.stream.Collectors;
 public class AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CheckInPolicyService checkInPolicyService;
 
+    /**
+     * Simpan check-in. Check-in ulang untuk siswa, tanggal dan tipe yang sama
+     * tidak membuat baris baru dan mengembalikan absensi aslinya.
+     */
+    @Transactional
     public AttendanceResponse createAttendance(AttendanceRequest request) {
-        Student student = studentRepository.findById(request.getStudentId())
-                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+        if (!studentRepository.existsById(request.getStudentId())) {
+            throw new ResourceNotFoundException("Student not found");
+        }
+        boolean late = checkInPolicyService.apply(request);
 
-        Attendance attendance = Attendance.builder()
-                .student(student)
-                .date(request.getDate())
-                .status(request.getStatus())
-                .timeIn(request.getTimeIn())
-                .timeOut(request.getTimeOut())
-                .notes(request.getNotes())
-                .location(request.getLocation())
-                .type(request.getType())
-                .build();
-
-        Attendance savedAttendance = attendanceRepository.save(attendance);
-        return mapToResponse(savedAttendance);
+        AttendanceJdbcRepository.UpsertResult result = attendanceJdbcRepository.upsert(
+                new AttendanceJdbcRepository.CheckIn(request, late));
+        if (result.isCreated()) {
+            eventPublisher.publishEvent(new AttendanceRecordedEvent(List.of(result.getAttendance())));
+        }
+        return result.getAttendance();
     }
 
     public AttendanceResponse getAttendanceById(Long id) {
@@ -81,6 +88,7 @@ public class AttendanceService {
                 .notes(attendance.getNotes())
                 .location(attendance.getLocation())
                 .type(attendance.getType())
+                .late(attendance.isLate())
                 .build();
     }
 }
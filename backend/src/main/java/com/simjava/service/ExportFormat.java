@@ -0,0 +1,37 @@
+package com.simjava.service;
+
+import com.simjava.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+/**
+ * Format file ekspor.
+ */
+public enum ExportFormat {
+    CSV("csv", new MediaType("text", "csv")),
+    NDJSON("ndjson", new MediaType("application", "x-ndjson"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Format ekspor tidak dikenal: " + value + " (csv atau ndjson)");
+    }
+}
@@ -0,0 +1,89 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simjava.exception.BadRequestException;
+import com.simjava.repository.AttendanceRepository;
+import com.simjava.repository.StudentRepository;
+import com.simjava.repository.projection.AttendanceExportView;
+import com.simjava.repository.projection.StudentListView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Ekspor data siswa dan absensi secara streaming.
+ *
+ * Baris dibaca lewat Stream repository (fetch size 1000, read-only) di dalam transaksi
+ * read-only dan langsung ditulis ke response, sehingga memori yang dipakai tidak
+ * bergantung pada jumlah baris.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final List<String> STUDENT_COLUMNS = List.of(
+            "id", "nis", "namaLengkap", "email", "telp", "jenisKelamin", "agama", "classRoomId", "userId");
+
+    private static final List<String> ATTENDANCE_COLUMNS = List.of(
+            "id", "studentId", "nis", "namaLengkap", "classRoomId", "date", "status", "type",
+            "timeIn", "timeOut", "location", "notes");
+
+    private final StudentRepository studentRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportStudents(ExportFormat format, Long classRoomId, String agama, Character jenisKelamin) {
+        return out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<StudentListView> rows = studentRepository.streamListViews(classRoomId, agama, jenisKelamin);
+                 RowExportWriter writer = new RowExportWriter(format, STUDENT_COLUMNS, out, objectMapper)) {
+                Iterator<StudentListView> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    StudentListView s = iterator.next();
+                    writer.writeRow(s.getId(), s.getNis(), s.getNamaLengkap(), s.getEmail(), s.getTelp(),
+                            s.getJenisKelamin(), s.getAgama(), s.getClassRoomId(), s.getUserId());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public StreamingResponseBody exportAttendances(ExportFormat format, LocalDate startDate, LocalDate endDate, Long classRoomId) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("startDate tidak boleh setelah endDate");
+        }
+        return out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<AttendanceExportView> rows = attendanceRepository.streamExportRows(startDate, endDate, classRoomId);
+                 RowExportWriter writer = new RowExportWriter(format, ATTENDANCE_COLUMNS, out, objectMapper)) {
+                Iterator<AttendanceExportView> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    AttendanceExportView a = iterator.next();
+                    writer.writeRow(a.getId(), a.getStudentId(), a.getNis(), a.getNamaLengkap(), a.getClassRoomId(),
+                            a.getDate(), a.getStatus(), a.getType(), a.getTimeIn(), a.getTimeOut(),
+                            a.getLocation(), a.getNotes());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
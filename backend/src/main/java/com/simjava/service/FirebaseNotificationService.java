@@ -1,29 +1,32 @@
 package com.simjava.service;
 
+import com.simjava.service.push.PushFanOutResult;
+import com.simjava.service.push.PushFanOutService;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Firebase notification service implementation.
- * Note: This is a placeholder implementation until the Firebase Admin SDK dependency is properly resolved.
- * The actual Firebase messaging functionality is simulated for now.
+ * Device notifications go through {@link PushFanOutService}; topic messaging is still simulated.
  */
 @Service
+@RequiredArgsConstructor
 public class FirebaseNotificationService implements NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(FirebaseNotificationService.class);
 
+    private final PushFanOutService pushFanOutService;
+
     @Override
     public boolean sendNotification(String token, String title, String body, Map<String, String> data) {
         try {
-            // Simulate sending a notification
-            logger.info("Simulating sending notification to token: {}, title: {}, body: {}", token, title, body);
-            // In a real implementation, this would use the Firebase Admin SDK
-            return true;
+            return pushFanOutService.send(List.of(token), title, body, data).getSent() == 1;
         } catch (Exception e) {
             logger.error("Failed to send notification to token: {}, error: {}", token, e.getMessage());
             return false;
@@ -31,16 +34,12 @@ public class FirebaseNotificationService implements NotificationService {
     }
 
     @Override
-    public int sendNotificationToMultipleDevices(List<String> tokens, String title, String body, Map<String, String> data) {
+    public PushFanOutResult sendNotificationToMultipleDevices(List<String> tokens, String title, String body, Map<String, String> data) {
         try {
-            // Simulate sending notifications to multiple devices
-            logger.info("Simulating sending notification to {} devices, title: {}, body: {}", 
-                    tokens.size(), title, body);
-            // In a real implementation, this would use the Firebase Admin SDK
-            return tokens.size(); // Simulate all successful
+            return pushFanOutService.send(tokens, title, body, data);
         } catch (Exception e) {
             logger.error("Failed to send multicast notification, error: {}", e.getMessage());
-            return 0;
+            return new PushFanOutResult(0, List.copyOf(new LinkedHashSet<>(tokens)), List.of(), 0);
         }
     }
 
@@ -0,0 +1,17 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Handler untuk satu jenis job di antrian {@link JobQueue}.
+ * Exception yang dilempar membuat job dicoba ulang dengan backoff.
+ */
+public interface JobHandler {
+
+    /**
+     * @return jenis job yang ditangani, sama dengan {@code type} di payload
+     */
+    String getType();
+
+    void handle(JsonNode data) throws Exception;
+}
@@ -0,0 +1,39 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.simjava.repository.JobJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Memasukkan job ke tabel jobs. Payload disimpan sebagai JSON {@code {"type": ..., "data": ...}}
+ * dan diproses oleh {@link JobWorker}.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobQueue {
+
+    private final JobJdbcRepository jobJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    public long push(String queue, String type, Object data) {
+        return later(queue, type, data, Duration.ZERO);
+    }
+
+    public long later(String queue, String type, Object data, Duration delay) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("type", type);
+        payload.set("data", objectMapper.valueToTree(data));
+        long now = Instant.now().getEpochSecond();
+        try {
+            return jobJdbcRepository.push(queue, objectMapper.writeValueAsString(payload), now + delay.toSeconds(), now);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Payload job tidak dapat diserialisasi: " + e.getMessage(), e);
+        }
+    }
+}
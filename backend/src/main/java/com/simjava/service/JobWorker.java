@@ -0,0 +1,163 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simjava.repository.JobJdbcRepository;
+import com.simjava.repository.JobJdbcRepository.Job;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Worker antrian job di tabel jobs.
+ *
+ * Poller hanya mereservasi job sebanyak slot worker yang kosong (maksimal batch-size per poll),
+ * sehingga laju pengiriman dibatasi oleh jumlah worker dan poll-interval. Job yang gagal
+ * dicoba ulang dengan backoff eksponensial; setelah max-attempts job dipindah ke failed_jobs.
+ * Reservasi yang lebih tua dari retry-after (worker mati di tengah job) dilepas kembali.
+ */
+@Service
+public class JobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobWorker.class);
+
+    private final JobJdbcRepository jobJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, JobHandler> handlers;
+    private final List<String> queues;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Duration retryAfter;
+    private final Semaphore slots;
+    private final ExecutorService executor;
+
+    public JobWorker(JobJdbcRepository jobJdbcRepository,
+                     ObjectMapper objectMapper,
+                     List<JobHandler> handlers,
+                     @Value("${app.jobs.queues:default,notifications}") List<String> queues,
+                     @Value("${app.jobs.workers:4}") int workers,
+                     @Value("${app.jobs.batch-size:20}") int batchSize,
+                     @Value("${app.jobs.max-attempts:5}") int maxAttempts,
+                     @Value("${app.jobs.backoff:10s}") Duration backoff,
+                     @Value("${app.jobs.max-backoff:10m}") Duration maxBackoff,
+                     @Value("${app.jobs.retry-after:5m}") Duration retryAfter) {
+        this.jobJdbcRepository = jobJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers.stream().collect(Collectors.toMap(JobHandler::getType, Function.identity()));
+        this.queues = List.copyOf(queues);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.retryAfter = retryAfter;
+        this.slots = new Semaphore(workers);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "job-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.poll-interval-ms:1000}")
+    public void poll() {
+        int free = Math.min(slots.availablePermits(), batchSize);
+        if (free == 0 || executor.isShutdown()) {
+            return;
+        }
+        List<Job> jobs = jobJdbcRepository.reserve(queues, free, Instant.now().getEpochSecond());
+        for (Job job : jobs) {
+            // Hanya thread poller yang mengambil permit, jadi permit pasti tersedia
+            slots.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.reclaim-interval-ms:60000}")
+    public void releaseStaleReservations() {
+        int released = jobJdbcRepository.releaseStale(Instant.now().minus(retryAfter).getEpochSecond());
+        if (released > 0) {
+            logger.warn("Released {} stale job reservation(s)", released);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Job yang belum selesai tetap ter-reservasi dan akan dilepas oleh releaseStaleReservations
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    void process(Job job) {
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(job.getPayload());
+        } catch (JsonProcessingException e) {
+            logger.error("Job {} has an unreadable payload, moving to failed_jobs", job.getId());
+            jobJdbcRepository.fail(job.getId(), stackTrace(e));
+            return;
+        }
+
+        String type = payload.path("type").asText();
+        JobHandler handler = handlers.get(type);
+        if (handler == null) {
+            logger.error("No handler for job type '{}' (job {}), moving to failed_jobs", type, job.getId());
+            jobJdbcRepository.fail(job.getId(), "No handler for job type: " + type);
+            return;
+        }
+
+        try {
+            handler.handle(payload.path("data"));
+            jobJdbcRepository.delete(job.getId());
+        } catch (Exception e) {
+            if (job.getAttempts() >= maxAttempts) {
+                logger.error("Job {} ({}) failed after {} attempts: {}", job.getId(), type, job.getAttempts(), e.getMessage());
+                jobJdbcRepository.fail(job.getId(), stackTrace(e));
+            } else {
+                Duration delay = backoffFor(job.getAttempts());
+                logger.warn("Job {} ({}) failed on attempt {}, retrying in {}s: {}",
+                        job.getId(), type, job.getAttempts(), delay.toSeconds(), e.getMessage());
+                jobJdbcRepository.release(job.getId(), Instant.now().plus(delay).getEpochSecond());
+            }
+        }
+    }
+
+    Duration backoffFor(int attempts) {
+        // backoff * 2^(attempts - 1), dibatasi max-backoff
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = backoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String stackTrace(Exception e) {
+        StringWriter writer = new StringWriter();
+        e.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package com.simjava.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Event bus in-process untuk Server-Sent Events.
+ *
+ * Setiap subscriber punya buffer terbatas. Publish tidak pernah menunggu subscriber:
+ * jika buffer subscriber penuh (klien lambat), koneksinya ditutup dan klien harus
+ * subscribe ulang lalu memuat ulang ringkasan. Pengiriman ke socket dilakukan oleh
+ * thread dispatcher, paling banyak satu tugas per subscriber pada satu waktu.
+ */
+@Service
+public class LiveUpdateBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveUpdateBus.class);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final ExecutorService dispatcher;
+    private final Counter droppedCounter;
+
+    public LiveUpdateBus(MeterRegistry meterRegistry,
+                         @Value("${app.live-updates.buffer-size:256}") int bufferSize,
+                         @Value("${app.live-updates.emitter-timeout:30m}") Duration emitterTimeout,
+                         @Value("${app.live-updates.dispatch-threads:4}") int dispatchThreads) {
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, r -> {
+            Thread thread = new Thread(r, "live-update-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("live_updates.subscribers", subscribers, Set::size).register(meterRegistry);
+        this.droppedCounter = Counter.builder("live_updates.dropped_subscribers").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.getEmitter().complete());
+        subscribers.clear();
+    }
+
+    /**
+     * @param userId pengguna yang subscribe, untuk event yang ditujukan ke pengguna tertentu
+     */
+    public SseEmitter subscribe(Long userId) {
+        return register(userId, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    SseEmitter register(Long userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Kirim ke semua subscriber.
+     */
+    public void publish(String type, Object data) {
+        publish(new LiveUpdate(null, type, data));
+    }
+
+    /**
+     * Kirim hanya ke subscriber milik pengguna tertentu.
+     */
+    public void publishToUser(Long userId, String type, Object data) {
+        publish(new LiveUpdate(userId, type, data));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.live-updates.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        // Komentar SSE menjaga koneksi tetap hidup di proxy dan mendeteksi klien yang sudah putus
+        publish(new LiveUpdate(null, null, null));
+    }
+
+    private void publish(LiveUpdate update) {
+        for (Subscriber subscriber : subscribers) {
+            if (update.getUserId() != null && !update.getUserId().equals(subscriber.getUserId())) {
+                continue;
+            }
+            if (!subscriber.getQueue().offer(update)) {
+                drop(subscriber, "buffer full");
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.getDraining().compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            LiveUpdate update;
+            while ((update = subscriber.getQueue().poll()) != null) {
+                subscriber.getEmitter().send(update.getType() == null
+                        ? SseEmitter.event().comment("heartbeat")
+                        : SseEmitter.event().name(update.getType()).data(update.getData(), MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e.getMessage());
+            return;
+        } finally {
+            subscriber.getDraining().set(false);
+        }
+        // Update yang masuk setelah poll terakhir tetapi sebelum flag dilepas
+        if (!subscriber.getQueue().isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            droppedCounter.increment();
+            logger.debug("Dropping live update subscriber (user {}): {}", subscriber.getUserId(), reason);
+            subscriber.getQueue().clear();
+            try {
+                subscriber.getEmitter().complete();
+            } catch (IllegalStateException e) {
+                // Emitter sudah selesai
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class LiveUpdate {
+        private final Long userId;
+        private final String type;
+        private final Object data;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<LiveUpdate> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+}
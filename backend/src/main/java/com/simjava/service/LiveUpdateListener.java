@@ -0,0 +1,62 @@
+package com.simjava.service;
+
+import com.simjava.event.AttendanceRecordedEvent;
+import com.simjava.event.NotificationCreatedEvent;
+import com.simjava.event.TeachingActivityCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Meneruskan perubahan yang sudah di-commit ke {@link LiveUpdateBus} sebagai delta.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveUpdateListener {
+
+    private final LiveUpdateBus liveUpdateBus;
+
+    @TransactionalEventListener
+    public void onAttendanceRecorded(AttendanceRecordedEvent event) {
+        if (liveUpdateBus.getSubscriberCount() == 0) {
+            return;
+        }
+        // Delta per (tanggal, status, tipe), dijumlahkan klien ke statistik yang sudah ada
+        Map<List<Object>, Long> counts = event.getAttendances().stream()
+                .collect(Collectors.groupingBy(
+                        a -> Arrays.<Object>asList(a.getDate(), a.getStatus(), a.getType()),
+                        LinkedHashMap::new,
+                        Collectors.counting()));
+        List<Map<String, Object>> deltas = counts.entrySet().stream()
+                .map(e -> {
+                    Map<String, Object> delta = new HashMap<>();
+                    delta.put("date", e.getKey().get(0));
+                    delta.put("status", e.getKey().get(1));
+                    delta.put("type", e.getKey().get(2));
+                    delta.put("count", e.getValue());
+                    return delta;
+                })
+                .collect(Collectors.toList());
+        liveUpdateBus.publish("attendance", Map.of("total", event.getAttendances().size(), "counts", deltas));
+    }
+
+    @TransactionalEventListener
+    public void onTeachingActivityCreated(TeachingActivityCreatedEvent event) {
+        liveUpdateBus.publish("teaching-activity", event.getActivity());
+    }
+
+    @TransactionalEventListener
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        Map<String, Object> data = Map.of("title", event.getTitle(), "type", event.getType());
+        for (Long userId : event.getUserIds()) {
+            liveUpdateBus.publishToUser(userId, "notification", data);
+        }
+    }
+}
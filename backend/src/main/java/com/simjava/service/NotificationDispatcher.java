@@ -0,0 +1,117 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simjava.dto.NotificationRequest;
+import com.simjava.exception.BadRequestException;
+import com.simjava.service.push.PushFanOutResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pengiriman notifikasi lewat antrian job. Request dengan banyak token dipecah menjadi
+ * beberapa job (tokens-per-job) agar satu kegagalan tidak mengulang pengiriman ke seluruh sekolah.
+ *
+ * Job token selesai bila tidak ada token yang gagal sementara; token tidak valid tidak dicoba lagi.
+ * Bila sebagian token gagal, hanya token itu yang dimasukkan ke job baru. Bila tidak ada token
+ * yang berhasil maupun ditolak, job dicoba ulang lewat backoff {@link JobWorker}.
+ */
+@Service
+public class NotificationDispatcher implements JobHandler {
+
+    public static final String QUEUE = "notifications";
+    public static final String JOB_TYPE = "notification.send";
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final JobQueue jobQueue;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final int tokensPerJob;
+    private final Duration retryDelay;
+
+    public NotificationDispatcher(JobQueue jobQueue,
+                                  NotificationService notificationService,
+                                  ObjectMapper objectMapper,
+                                  @Value("${app.jobs.notifications.tokens-per-job:500}") int tokensPerJob,
+                                  @Value("${app.jobs.backoff:10s}") Duration retryDelay) {
+        this.jobQueue = jobQueue;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.tokensPerJob = tokensPerJob;
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Semua job dibuat dalam satu transaksi: bila salah satu gagal tidak ada job yang tersimpan,
+     * sehingga klien bisa mengulang tanpa mengirim ganda ke penerima di chunk awal.
+     *
+     * @return id job yang dibuat
+     */
+    @Transactional
+    public List<Long> dispatch(NotificationRequest request) {
+        List<Long> jobIds = new ArrayList<>();
+        if (request.getToken() != null) {
+            jobIds.add(jobQueue.push(QUEUE, JOB_TYPE, request));
+        } else if (request.getTokens() != null && !request.getTokens().isEmpty()) {
+            List<String> tokens = request.getTokens();
+            for (int from = 0; from < tokens.size(); from += tokensPerJob) {
+                List<String> chunk = tokens.subList(from, Math.min(from + tokensPerJob, tokens.size()));
+                NotificationRequest part = new NotificationRequest(null, new ArrayList<>(chunk), null,
+                        request.getTitle(), request.getBody(), request.getData());
+                jobIds.add(jobQueue.push(QUEUE, JOB_TYPE, part));
+            }
+        } else if (request.getTopic() != null) {
+            jobIds.add(jobQueue.push(QUEUE, JOB_TYPE, request));
+        } else {
+            throw new BadRequestException("Token, tokens atau topic harus diisi");
+        }
+        return jobIds;
+    }
+
+    @Override
+    public String getType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void handle(JsonNode data) throws Exception {
+        NotificationRequest request = objectMapper.treeToValue(data, NotificationRequest.class);
+
+        if (request.getToken() != null) {
+            // Send to specific device
+            sendToDevices(request, List.of(request.getToken()));
+        } else if (request.getTokens() != null && !request.getTokens().isEmpty()) {
+            // Send to multiple devices
+            sendToDevices(request, request.getTokens());
+        } else if (!notificationService.sendNotificationToTopic(
+                request.getTopic(), request.getTitle(), request.getBody(), request.getData())) {
+            throw new IllegalStateException("Failed to send notification");
+        }
+    }
+
+    private void sendToDevices(NotificationRequest request, List<String> tokens) {
+        PushFanOutResult result = notificationService.sendNotificationToMultipleDevices(
+                tokens, request.getTitle(), request.getBody(), request.getData());
+        List<String> failed = result.getFailedTokens();
+        if (failed.isEmpty()) {
+            return;
+        }
+        if (result.getSent() == 0 && result.getInvalidTokens().isEmpty() && result.getRejected() == 0) {
+            // Tidak ada kemajuan: ulangi job yang sama (isinya persis token yang gagal)
+            throw new IllegalStateException("Failed to send notification to " + failed.size() + " tokens");
+        }
+        // Setiap job baru berisi lebih sedikit token, sehingga rantai ini pasti berhenti
+        NotificationRequest retry = new NotificationRequest(null, new ArrayList<>(failed), null,
+                request.getTitle(), request.getBody(), request.getData());
+        long jobId = jobQueue.later(QUEUE, JOB_TYPE, retry, retryDelay);
+        logger.warn("Push to {} of {} tokens failed, re-enqueued as job {}", failed.size(), tokens.size(), jobId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.simjava.service;
+
+import com.simjava.dto.NotificationBroadcastRequest;
+import com.simjava.dto.NotificationFeedResponse;
+
+import java.util.List;
+
+public interface NotificationInboxService {
+    NotificationFeedResponse getFeed(Long userId, Long beforeId, int size, boolean unreadOnly);
+    long countUnread(Long userId);
+    int markRead(Long userId, List<Long> ids);
+    int markAllRead(Long userId);
+    int broadcast(NotificationBroadcastRequest request);
+}
@@ -1,5 +1,7 @@
 package com.simjava.service;
 
+import com.simjava.service.push.PushFanOutResult;
+
 import java.util.List;
 import java.util.Map;
 
@@ -23,9 +25,9 @@ public interface NotificationService {
      * @param title Notification title
      * @param body Notification body
      * @param data Additional data to send with the notification
-     * @return Number of successfully sent notifications
+     * @return Sent count plus the tokens that failed temporarily or are invalid
      */
-    int sendNotificationToMultipleDevices(List<String> tokens, String title, String body, Map<String, String> data);
+    PushFanOutResult sendNotificationToMultipleDevices(List<String> tokens, String title, String body, Map<String, String> data);
     
     /**
      * Send a notification to a topic
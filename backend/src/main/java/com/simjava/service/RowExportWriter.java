@@ -0,0 +1,101 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Menulis baris ekspor satu per satu ke output stream dalam format CSV atau NDJSON.
+ * Tidak ada baris yang ditahan di memori; buffer hanya sebesar buffer writer.
+ */
+public class RowExportWriter implements Closeable {
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer writer;
+    private final JsonGenerator generator;
+
+    public RowExportWriter(ExportFormat format, List<String> columns, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        this.columns = List.copyOf(columns);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == ExportFormat.NDJSON) {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // Pemisah baris ditulis sendiri, bukan spasi bawaan antar nilai root
+            this.generator.setRootValueSeparator(null);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Hanya close() yang mem-flush; flush per baris memecah respons jadi jutaan chunk kecil
+            this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        } else {
+            this.generator = null;
+            writeCsvLine(this.columns.toArray());
+        }
+    }
+
+    public void writeRow(Object... values) throws IOException {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values, got " + values.length);
+        }
+        if (format == ExportFormat.NDJSON) {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(columns.get(i));
+                generator.writeObject(values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } else {
+            writeCsvLine(values);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvValue(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        // RFC 4180: kutip jika ada koma, kutip ganda atau baris baru
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,48 @@
+package com.simjava.service;
+
+import com.simjava.dto.SearchResultResponse;
+import com.simjava.exception.BadRequestException;
+import com.simjava.repository.SearchJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final Set<String> ALL_TYPES = Set.of(
+            SearchJdbcRepository.TEACHER, SearchJdbcRepository.USER, SearchJdbcRepository.STUDENT);
+
+    private final SearchJdbcRepository searchJdbcRepository;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxLimit;
+
+    public List<SearchResultResponse> search(String query, List<String> types, int limit) {
+        String q = query == null ? "" : query.trim();
+        if (q.length() < 2) {
+            throw new BadRequestException("Kata kunci pencarian minimal 2 karakter");
+        }
+
+        Set<String> selectedTypes = new LinkedHashSet<>();
+        if (types == null || types.isEmpty()) {
+            selectedTypes.addAll(ALL_TYPES);
+        } else {
+            for (String type : types) {
+                String normalized = type.trim().toLowerCase(Locale.ROOT);
+                if (!ALL_TYPES.contains(normalized)) {
+                    throw new BadRequestException("Tipe pencarian tidak dikenal: " + type);
+                }
+                selectedTypes.add(normalized);
+            }
+        }
+
+        return searchJdbcRepository.search(q, selectedTypes, Math.max(1, Math.min(limit, maxLimit)));
+    }
+}
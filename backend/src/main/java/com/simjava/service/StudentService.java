@@ -3,9 +3,17 @@ package com.simjava.service;
 import com.simjava.domain.security.Student;
 import com.simjava.dto.StudentRequest;
 import com.simjava.dto.StudentResponse;
+import com.simjava.dto.StudentSliceResponse;
+import com.simjava.event.StudentChangedEvent;
 import com.simjava.exception.ResourceNotFoundException;
 import com.simjava.repository.StudentRepository;
+import com.simjava.repository.projection.StudentListView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +25,39 @@ import java.util.stream.Collectors;
 public class StudentService {
 
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
 
     @Transactional(readOnly = true)
     public List<StudentResponse> getAllStudents() {
-        return studentRepository.findAll().stream()
+        return studentRepository.findAllListViews().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<StudentResponse> getStudents(Long classRoomId, String agama, Character jenisKelamin, Pageable pageable) {
+        return studentRepository.findListViews(classRoomId, agama, jenisKelamin, pageable)
+                .map(this::mapToResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public StudentSliceResponse getStudentsAfter(Long classRoomId, String agama, Character jenisKelamin,
+                                                 Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // Ambil satu baris ekstra untuk mengetahui apakah masih ada halaman berikutnya
+        List<StudentListView> rows = studentRepository.findListViewsAfter(classRoomId, agama, jenisKelamin,
+                afterId != null ? afterId : 0L, Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<StudentResponse> items = rows.stream()
+                .limit(pageSize)
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
+        Long nextAfterId = hasMore ? items.get(items.size() - 1).getId() : null;
+        return new StudentSliceResponse(items, nextAfterId);
     }
 
     @Transactional
@@ -39,6 +74,7 @@ public class StudentService {
                 .build();
         
         Student savedStudent = studentRepository.save(student);
+        eventPublisher.publishEvent(new StudentChangedEvent(null, StudentChangedEvent.Group.of(savedStudent)));
         return mapToResponse(savedStudent);
     }
 
@@ -62,6 +98,7 @@ public class StudentService {
     public StudentResponse updateStudent(Long id, StudentRequest studentRequest) {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
+        StudentChangedEvent.Group previous = StudentChangedEvent.Group.of(student);
         
         // Update fields
         student.setNis(studentRequest.getNis());
@@ -74,6 +111,7 @@ public class StudentService {
         student.setUserId(studentRequest.getUserId());
         
         Student updatedStudent = studentRepository.save(student);
+        eventPublisher.publishEvent(new StudentChangedEvent(previous, StudentChangedEvent.Group.of(updatedStudent)));
         return mapToResponse(updatedStudent);
     }
 
@@ -83,6 +121,23 @@ public class StudentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
         
         studentRepository.delete(student);
+        eventPublisher.publishEvent(new StudentChangedEvent(StudentChangedEvent.Group.of(student), null));
+    }
+
+    private StudentResponse mapToResponse(StudentListView student) {
+        return StudentResponse.builder()
+                .id(student.getId())
+                .nis(student.getNis())
+                .namaLengkap(student.getNamaLengkap())
+                .email(student.getEmail())
+                .telp(student.getTelp())
+                .jenisKelamin(student.getJenisKelamin() != null ? student.getJenisKelamin() : '\0')
+                .agama(student.getAgama())
+                .classRoomId(student.getClassRoomId())
+                .userId(student.getUserId())
+                .createdAt(student.getCreatedAt())
+                .updatedAt(student.getUpdatedAt())
+                .build();
     }
 
     private StudentResponse mapToResponse(Student student) {
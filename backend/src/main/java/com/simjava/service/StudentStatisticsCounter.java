@@ -0,0 +1,136 @@
+package com.simjava.service;
+
+import com.simjava.event.StudentChangedEvent;
+import com.simjava.repository.StudentRepository;
+import com.simjava.repository.projection.StudentGroupCountView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Statistik siswa di memori untuk dashboard.
+ *
+ * Snapshot awal dibaca dengan satu query GROUP BY (jenis kelamin, kelas, agama), lalu disesuaikan
+ * oleh {@link StudentChangedEvent} setelah transaksi commit. Resync berkala menutup selisih dari
+ * perubahan di luar {@link StudentService} (mis. import SQL langsung).
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentStatisticsCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentStatisticsCounter.class);
+
+    private final StudentRepository studentRepository;
+
+    private final Object lock = new Object();
+
+    // Snapshot immutable; diganti utuh setiap perubahan sehingga pembaca tidak perlu lock
+    private volatile Snapshot snapshot;
+
+    // Dinaikkan setiap penyesuaian, agar hasil resync yang dibaca sebelum penyesuaian tidak menimpanya
+    private long version;
+
+    public Map<String, Object> getStatistics() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = resync();
+        }
+        return current.statistics;
+    }
+
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (Objects.equals(event.getPrevious(), event.getCurrent())) {
+            return;
+        }
+        synchronized (lock) {
+            version++;
+            if (snapshot != null) {
+                snapshot = snapshot.adjust(event.getPrevious(), event.getCurrent());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.student-counter-resync-interval-ms:300000}")
+    public void scheduledResync() {
+        if (snapshot != null) {
+            resync();
+        }
+    }
+
+    Snapshot resync() {
+        long startVersion;
+        synchronized (lock) {
+            startVersion = version;
+        }
+
+        Map<StudentChangedEvent.Group, Long> counts = new HashMap<>();
+        for (StudentGroupCountView row : studentRepository.countByGroup()) {
+            counts.put(new StudentChangedEvent.Group(row.getJenisKelamin(), row.getClassRoomId(), row.getAgama()),
+                    row.getTotal());
+        }
+        Snapshot loaded = new Snapshot(counts);
+
+        synchronized (lock) {
+            if (version == startVersion) {
+                snapshot = loaded;
+            } else {
+                // Ada perubahan selama query; snapshot lama (yang sudah disesuaikan) dipertahankan
+                logger.debug("Student statistics resync skipped, {} changes during query", version - startVersion);
+            }
+        }
+        return loaded;
+    }
+
+    static final class Snapshot {
+        private final Map<StudentChangedEvent.Group, Long> counts;
+        private final Map<String, Object> statistics;
+
+        Snapshot(Map<StudentChangedEvent.Group, Long> counts) {
+            this.counts = counts;
+            this.statistics = summarize(counts);
+        }
+
+        Snapshot adjust(StudentChangedEvent.Group previous, StudentChangedEvent.Group current) {
+            Map<StudentChangedEvent.Group, Long> adjusted = new HashMap<>(counts);
+            if (previous != null) {
+                adjusted.computeIfPresent(previous, (group, total) -> total > 1 ? total - 1 : null);
+            }
+            if (current != null) {
+                adjusted.merge(current, 1L, Long::sum);
+            }
+            return new Snapshot(adjusted);
+        }
+
+        private static Map<String, Object> summarize(Map<StudentChangedEvent.Group, Long> counts) {
+            long totalStudents = 0;
+            Map<Character, Long> studentsByGender = new HashMap<>();
+            Map<Long, Long> studentsByClass = new HashMap<>();
+            Map<String, Long> studentsByReligion = new HashMap<>();
+            for (Map.Entry<StudentChangedEvent.Group, Long> entry : counts.entrySet()) {
+                StudentChangedEvent.Group group = entry.getKey();
+                long total = entry.getValue();
+                totalStudents += total;
+                studentsByGender.merge(group.getJenisKelamin(), total, Long::sum);
+                studentsByClass.merge(group.getClassRoomId(), total, Long::sum);
+                studentsByReligion.merge(group.getAgama(), total, Long::sum);
+            }
+
+            Map<String, Object> statistics = new HashMap<>();
+            statistics.put("totalStudents", totalStudents);
+            statistics.put("studentsByGender", Collections.unmodifiableMap(studentsByGender));
+            statistics.put("studentsByClass", Collections.unmodifiableMap(studentsByClass));
+            statistics.put("studentsByReligion", Collections.unmodifiableMap(studentsByReligion));
+            return Collections.unmodifiableMap(statistics);
+        }
+    }
+}
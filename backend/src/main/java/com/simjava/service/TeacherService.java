@@ -2,6 +2,8 @@ package com.simjava.service;
 
 import com.simjava.dto.TeacherRequest;
 import com.simjava.dto.TeacherResponse;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,6 +13,7 @@ public interface TeacherService {
     TeacherResponse getTeacherByNip(String nip);
     TeacherResponse getTeacherByEmail(String email);
     Page<TeacherResponse> getAllTeachers(Pageable pageable, String search, String status);
+    CursorSlice<TeacherResponse> getTeachersSlice(CursorRequest request, String search, String status);
     TeacherResponse updateTeacher(Long id, TeacherRequest request);
     void deleteTeacher(Long id);
 } 
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.simjava.service;
 
 import com.simjava.dto.UserRequest;
 import com.simjava.dto.UserResponse;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,6 +12,7 @@ public interface UserService {
     UserResponse getUserById(Long id);
     UserResponse getUserByEmail(String email);
     Page<UserResponse> getAllUsers(Pageable pageable, String search, String userType);
+    CursorSlice<UserResponse> getUsersSlice(CursorRequest request, String search, String userType);
     UserResponse updateUser(Long id, UserRequest request);
     void deleteUser(Long id);
     UserResponse changePassword(Long id, String currentPassword, String newPassword);
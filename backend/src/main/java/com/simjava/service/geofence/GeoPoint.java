@@ -0,0 +1,38 @@
+package com.simjava.service.geofence;
+
+import com.simjava.exception.BadRequestException;
+import lombok.Value;
+
+/**
+ * Koordinat WGS84 dalam derajat.
+ */
+@Value
+public class GeoPoint {
+    double latitude;
+    double longitude;
+
+    /**
+     * Parse lokasi check-in berformat {@code "latitude,longitude"}, mis. {@code "-6.2088,106.8456"}.
+     */
+    public static GeoPoint parse(String location) {
+        if (location == null) {
+            throw new BadRequestException("Lokasi wajib diisi");
+        }
+        int comma = location.indexOf(',');
+        if (comma < 0) {
+            throw new BadRequestException("Format lokasi harus \"latitude,longitude\"");
+        }
+        double latitude;
+        double longitude;
+        try {
+            latitude = Double.parseDouble(location.substring(0, comma).trim());
+            longitude = Double.parseDouble(location.substring(comma + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Format lokasi harus \"latitude,longitude\"");
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Koordinat lokasi di luar jangkauan");
+        }
+        return new GeoPoint(latitude, longitude);
+    }
+}
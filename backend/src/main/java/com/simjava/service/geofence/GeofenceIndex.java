@@ -0,0 +1,214 @@
+package com.simjava.service.geofence;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indeks spasial immutable atas lingkaran geofence kantor.
+ *
+ * Permukaan dibagi menjadi grid sel berukuran tetap (derajat). Setiap kantor didaftarkan ke
+ * semua sel yang tertutup kotak pembatas lingkarannya, sehingga pencarian cukup membaca satu
+ * sel lalu menghitung haversine untuk kandidat di sel tersebut. Tabel sel memakai open addressing
+ * di atas array primitif: pencarian tidak mengalokasikan objek. Wrap-around di garis bujur 180
+ * tidak ditangani (tidak relevan untuk lokasi sekolah).
+ */
+public final class GeofenceIndex {
+
+    public static final long NO_MATCH = -1L;
+
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double MIN_CELL_DEGREES = 0.001;
+    private static final double MAX_CELL_DEGREES = 0.05;
+
+    public static final GeofenceIndex EMPTY = build(List.of());
+
+    // Data kantor disimpan berurutan menurut id (untuk binary search) dalam array paralel
+    private final long[] ids;
+    private final double[] latitudesRad;
+    private final double[] longitudesRad;
+    private final double[] cosLatitudes;
+    private final double[] radii;
+
+    private final double cellDegrees;
+    private final long[] cellKeys;
+    private final int[][] cellSlots;
+    private final int cellMask;
+
+    private GeofenceIndex(long[] ids, double[] latitudesRad, double[] longitudesRad, double[] cosLatitudes,
+                          double[] radii, double cellDegrees, long[] cellKeys, int[][] cellSlots) {
+        this.ids = ids;
+        this.latitudesRad = latitudesRad;
+        this.longitudesRad = longitudesRad;
+        this.cosLatitudes = cosLatitudes;
+        this.radii = radii;
+        this.cellDegrees = cellDegrees;
+        this.cellKeys = cellKeys;
+        this.cellSlots = cellSlots;
+        this.cellMask = cellKeys.length - 1;
+    }
+
+    public static GeofenceIndex build(List<Fence> fences) {
+        List<Fence> sorted = new ArrayList<>(fences);
+        sorted.sort(Comparator.comparingLong(Fence::getId));
+        int n = sorted.size();
+
+        long[] ids = new long[n];
+        double[] latitudesRad = new double[n];
+        double[] longitudesRad = new double[n];
+        double[] cosLatitudes = new double[n];
+        double[] radii = new double[n];
+        double maxRadius = 0;
+        for (int i = 0; i < n; i++) {
+            Fence fence = sorted.get(i);
+            if (i > 0 && ids[i - 1] == fence.getId()) {
+                throw new IllegalArgumentException("Duplicate office id " + fence.getId());
+            }
+            ids[i] = fence.getId();
+            latitudesRad[i] = Math.toRadians(fence.getLatitude());
+            longitudesRad[i] = Math.toRadians(fence.getLongitude());
+            cosLatitudes[i] = Math.cos(latitudesRad[i]);
+            radii[i] = fence.getRadiusMeters();
+            maxRadius = Math.max(maxRadius, fence.getRadiusMeters());
+        }
+
+        // Ukuran sel mengikuti radius terbesar, dibatasi agar sel tidak terlalu kecil atau terlalu besar
+        double cellDegrees = Math.min(MAX_CELL_DEGREES, Math.max(MIN_CELL_DEGREES, maxRadius / METERS_PER_DEGREE));
+
+        Map<Long, List<Integer>> cells = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Fence fence = sorted.get(i);
+            double latSpan = fence.getRadiusMeters() / METERS_PER_DEGREE;
+            double lonSpan = fence.getRadiusMeters() / (METERS_PER_DEGREE * Math.max(cosLatitudes[i], 0.01));
+            int minLat = cell(fence.getLatitude() - latSpan, cellDegrees);
+            int maxLat = cell(fence.getLatitude() + latSpan, cellDegrees);
+            int minLon = cell(fence.getLongitude() - lonSpan, cellDegrees);
+            int maxLon = cell(fence.getLongitude() + lonSpan, cellDegrees);
+            for (int latCell = minLat; latCell <= maxLat; latCell++) {
+                for (int lonCell = minLon; lonCell <= maxLon; lonCell++) {
+                    cells.computeIfAbsent(key(latCell, lonCell), k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        // Load factor maksimal 0.5
+        int capacity = Integer.highestOneBit(Math.max(2, cells.size() * 2 - 1)) << 1;
+        long[] cellKeys = new long[capacity];
+        int[][] cellSlots = new int[capacity][];
+        for (Map.Entry<Long, List<Integer>> entry : cells.entrySet()) {
+            int slot = (int) mix(entry.getKey()) & (capacity - 1);
+            while (cellSlots[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            cellKeys[slot] = entry.getKey();
+            cellSlots[slot] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new GeofenceIndex(ids, latitudesRad, longitudesRad, cosLatitudes, radii, cellDegrees, cellKeys, cellSlots);
+    }
+
+    /**
+     * @return id kantor terdekat yang radiusnya mencakup titik, atau {@link #NO_MATCH}
+     */
+    public long findContaining(double latitude, double longitude) {
+        int[] candidates = candidates(latitude, longitude);
+        if (candidates == null) {
+            return NO_MATCH;
+        }
+        double latRad = Math.toRadians(latitude);
+        double lonRad = Math.toRadians(longitude);
+        double cosLat = Math.cos(latRad);
+
+        long best = NO_MATCH;
+        double bestDistance = Double.MAX_VALUE;
+        for (int slot : candidates) {
+            double distance = distance(latRad, lonRad, cosLat, slot);
+            if (distance <= radii[slot] && distance < bestDistance) {
+                best = ids[slot];
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Apakah titik berada dalam radius kantor tertentu. false jika kantor tidak ada di indeks.
+     */
+    public boolean contains(long officeId, double latitude, double longitude) {
+        int slot = Arrays.binarySearch(ids, officeId);
+        if (slot < 0) {
+            return false;
+        }
+        double latRad = Math.toRadians(latitude);
+        return distance(latRad, Math.toRadians(longitude), Math.cos(latRad), slot) <= radii[slot];
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Jarak great-circle (haversine) dalam meter.
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        return haversine(lat1Rad, Math.toRadians(lon1), Math.cos(lat1Rad),
+                lat2Rad, Math.toRadians(lon2), Math.cos(lat2Rad));
+    }
+
+    private double distance(double latRad, double lonRad, double cosLat, int slot) {
+        return haversine(latRad, lonRad, cosLat, latitudesRad[slot], longitudesRad[slot], cosLatitudes[slot]);
+    }
+
+    private static double haversine(double lat1, double lon1, double cosLat1, double lat2, double lon2, double cosLat2) {
+        double sinDLat = Math.sin((lat2 - lat1) * 0.5);
+        double sinDLon = Math.sin((lon2 - lon1) * 0.5);
+        double a = sinDLat * sinDLat + cosLat1 * cosLat2 * sinDLon * sinDLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private int[] candidates(double latitude, double longitude) {
+        long key = key(cell(latitude, cellDegrees), cell(longitude, cellDegrees));
+        int slot = (int) mix(key) & cellMask;
+        while (cellSlots[slot] != null) {
+            if (cellKeys[slot] == key) {
+                return cellSlots[slot];
+            }
+            slot = (slot + 1) & cellMask;
+        }
+        return null;
+    }
+
+    private static int cell(double degrees, double cellDegrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    // Finalizer MurmurHash3 agar sel yang berdekatan tidak menumpuk di slot yang sama
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb93fe53a87b5L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    @Value
+    public static class Fence {
+        long id;
+        double latitude;
+        double longitude;
+        double radiusMeters;
+    }
+}
@@ -0,0 +1,130 @@
+package com.simjava.service.geofence;
+
+import com.simjava.domain.schedule.Office;
+import com.simjava.exception.BadRequestException;
+import com.simjava.exception.ServiceUnavailableException;
+import com.simjava.repository.OfficeRepository;
+import com.simjava.repository.projection.ChangeSignatureView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Validasi lokasi check-in terhadap kantor aktif.
+ *
+ * Kantor aktif dimuat ke {@link GeofenceIndex} yang diganti utuh (bukan diubah) saat tabel offices
+ * berubah, sehingga validasi tidak pernah menyentuh database. Perubahan dideteksi dari jumlah baris
+ * dan updated_at terakhir.
+ *
+ * Indeks dimuat saat aplikasi siap. Selama belum pernah berhasil dimuat, validasi gagal tertutup
+ * (503) agar check-in tidak diterima dari mana saja; ini berbeda dengan "tidak ada kantor aktif".
+ */
+@Service
+@RequiredArgsConstructor
+public class GeofenceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeofenceService.class);
+
+    private final OfficeRepository officeRepository;
+
+    // Radius bawaan untuk kantor yang tidak mengisi radius
+    @Value("${app.gps.allowed-radius:100}")
+    private int defaultRadius;
+
+    @Value("${app.gps.geofence.enabled:true}")
+    private boolean enabled;
+
+    private volatile GeofenceIndex index = GeofenceIndex.EMPTY;
+    private volatile boolean loaded;
+    private volatile String signature;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refreshIfChanged();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load geofence index at startup, check-ins are rejected until it loads: {}",
+                    e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.gps.geofence.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        ChangeSignatureView current = officeRepository.findSignature();
+        String currentSignature = current.getTotal() + ":" + current.getLastUpdatedAt();
+        if (!currentSignature.equals(signature)) {
+            reload();
+            signature = currentSignature;
+        }
+    }
+
+    public void reload() {
+        List<GeofenceIndex.Fence> fences = officeRepository.findByStatusTrue().stream()
+                .map(this::toFence)
+                .collect(Collectors.toList());
+        index = GeofenceIndex.build(fences);
+        loaded = true;
+        logger.info("Loaded {} active offices into geofence index", fences.size());
+    }
+
+    /**
+     * Validasi lokasi check-in {@code "latitude,longitude"}.
+     *
+     * @return id kantor terdekat yang mencakup lokasi, atau {@link GeofenceIndex#NO_MATCH} jika
+     *         geofence dinonaktifkan atau belum ada kantor aktif
+     * @throws BadRequestException jika format lokasi salah atau lokasi di luar semua kantor
+     * @throws ServiceUnavailableException jika daftar kantor belum pernah berhasil dimuat
+     */
+    public long validateCheckIn(String location) {
+        if (!enabled) {
+            return GeofenceIndex.NO_MATCH;
+        }
+        GeofenceIndex current = loadedIndex();
+        if (current.size() == 0) {
+            return GeofenceIndex.NO_MATCH;
+        }
+        GeoPoint point = GeoPoint.parse(location);
+        long officeId = current.findContaining(point.getLatitude(), point.getLongitude());
+        if (officeId == GeofenceIndex.NO_MATCH) {
+            throw new BadRequestException("Lokasi check-in di luar area kantor/sekolah");
+        }
+        return officeId;
+    }
+
+    /**
+     * Apakah titik berada dalam radius kantor tertentu (mis. kantor pada jadwal pengguna).
+     */
+    public boolean isWithinOffice(long officeId, GeoPoint point) {
+        return index.contains(officeId, point.getLatitude(), point.getLongitude());
+    }
+
+    /**
+     * Geofence aktif dan sudah memuat minimal satu kantor.
+     *
+     * @throws ServiceUnavailableException jika daftar kantor belum pernah berhasil dimuat
+     */
+    public boolean isActive() {
+        return enabled && loadedIndex().size() > 0;
+    }
+
+    private GeofenceIndex loadedIndex() {
+        if (!loaded) {
+            logger.warn("Geofence index not loaded yet, rejecting check-in");
+            throw new ServiceUnavailableException("Data lokasi kantor belum dimuat, silakan coba lagi", 30);
+        }
+        return index;
+    }
+
+    private GeofenceIndex.Fence toFence(Office office) {
+        int radius = office.getRadius() != null && office.getRadius() > 0 ? office.getRadius() : defaultRadius;
+        return new GeofenceIndex.Fence(office.getId(), office.getLatitude(), office.getLongitude(), radius);
+    }
+}
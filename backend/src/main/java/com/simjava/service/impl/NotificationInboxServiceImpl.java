@@ -0,0 +1,121 @@
+package com.simjava.service.impl;
+
+import com.simjava.domain.notification.Notification;
+import com.simjava.dto.NotificationBroadcastRequest;
+import com.simjava.dto.NotificationFeedResponse;
+import com.simjava.dto.NotificationResponse;
+import com.simjava.event.NotificationCreatedEvent;
+import com.simjava.exception.BadRequestException;
+import com.simjava.repository.NotificationJdbcRepository;
+import com.simjava.repository.NotificationRepository;
+import com.simjava.service.NotificationInboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxServiceImpl implements NotificationInboxService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationFeedResponse getFeed(Long userId, Long beforeId, int size, boolean unreadOnly) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // Ambil satu baris ekstra untuk mengetahui apakah masih ada halaman berikutnya
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Notification> rows;
+        if (unreadOnly) {
+            rows = beforeId == null
+                    ? notificationRepository.findByUserIdAndReadFalseOrderByIdDesc(userId, limit)
+                    : notificationRepository.findByUserIdAndReadFalseAndIdLessThanOrderByIdDesc(userId, beforeId, limit);
+        } else {
+            rows = beforeId == null
+                    ? notificationRepository.findByUserIdOrderByIdDesc(userId, limit)
+                    : notificationRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, beforeId, limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationResponse> items = rows.stream()
+                .limit(pageSize)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        Long nextBeforeId = hasMore ? items.get(items.size() - 1).getId() : null;
+        return new NotificationFeedResponse(items, nextBeforeId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countUnread(Long userId) {
+        return notificationRepository.countByUserIdAndReadFalse(userId);
+    }
+
+    @Override
+    @Transactional
+    public int markRead(Long userId, List<Long> ids) {
+        return notificationRepository.markRead(userId, new LinkedHashSet<>(ids), LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int markAllRead(Long userId) {
+        return notificationRepository.markAllRead(userId, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int broadcast(NotificationBroadcastRequest request) {
+        boolean hasUsers = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        if (!hasUsers && request.getClassRoomId() == null) {
+            throw new BadRequestException("userIds atau classRoomId harus diisi");
+        }
+
+        String type = request.getType() != null ? request.getType() : "general";
+        LocalDateTime now = LocalDateTime.now();
+        int created = 0;
+        List<Long> recipients = new ArrayList<>();
+        if (hasUsers) {
+            Set<Long> userIds = new LinkedHashSet<>(request.getUserIds());
+            created += notificationJdbcRepository.insertForUsers(userIds,
+                    request.getTitle(), request.getMessage(), type, now);
+            recipients.addAll(userIds);
+        }
+        if (request.getClassRoomId() != null) {
+            List<Long> classRoomUserIds = notificationJdbcRepository.insertForClassRoom(request.getClassRoomId(),
+                    request.getTitle(), request.getMessage(), type, now);
+            created += classRoomUserIds.size();
+            recipients.addAll(classRoomUserIds);
+        }
+        eventPublisher.publishEvent(new NotificationCreatedEvent(recipients, request.getTitle(), type));
+        return created;
+    }
+
+    private NotificationResponse mapToResponse(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .type(notification.getType())
+                .read(notification.isRead())
+                .readAt(notification.getReadAt())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -5,16 +5,25 @@ import com.simjava.domain.security.User;
 import com.simjava.dto.TeacherRequest;
 import com.simjava.dto.TeacherResponse;
 import com.simjava.dto.UserResponse;
+import com.simjava.exception.BadRequestException;
 import com.simjava.exception.ResourceNotFoundException;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
+import com.simjava.repository.LikePatterns;
 import com.simjava.repository.TeacherRepository;
 import com.simjava.repository.UserRepository;
 import com.simjava.service.TeacherService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class TeacherServiceImpl implements TeacherService {
@@ -22,17 +31,23 @@ public class TeacherServiceImpl implements TeacherService {
     private final TeacherRepository teacherRepository;
     private final UserRepository userRepository;
 
+    // Hanya kolom dengan indeks (kunci, id), lihat V29
+    private static final Set<String> SLICE_SORT_PROPERTIES = Set.of("id", "namaLengkap");
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+
     @Override
     @Transactional
     public TeacherResponse createTeacher(TeacherRequest request) {
         // Check if NIP already exists
         if (teacherRepository.existsByNip(request.getNip())) {
-            throw new IllegalArgumentException("NIP already exists: " + request.getNip());
+            throw new BadRequestException("NIP already exists: " + request.getNip());
         }
         
         // Check if email already exists
         if (teacherRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
+            throw new BadRequestException("Email already exists: " + request.getEmail());
         }
         
         // Get user if userId is provided
@@ -91,9 +106,9 @@ public class TeacherServiceImpl implements TeacherService {
         Page<Teacher> teachers;
         
         if (search != null && !search.isEmpty() && status != null && !status.isEmpty()) {
-            teachers = teacherRepository.findByNamaLengkapContainingIgnoreCaseAndStatus(search, status, pageable);
+            teachers = teacherRepository.findByNamaLengkapContainingIgnoreCaseAndStatus(LikePatterns.escape(search), status, pageable);
         } else if (search != null && !search.isEmpty()) {
-            teachers = teacherRepository.findByNamaLengkapContainingIgnoreCase(search, pageable);
+            teachers = teacherRepository.findByNamaLengkapContainingIgnoreCase(LikePatterns.escape(search), pageable);
         } else if (status != null && !status.isEmpty()) {
             teachers = teacherRepository.findByStatus(status, pageable);
         } else {
@@ -103,6 +118,21 @@ public class TeacherServiceImpl implements TeacherService {
         return teachers.map(this::mapToTeacherResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<TeacherResponse> getTeachersSlice(CursorRequest request, String search, String status) {
+        Specification<Teacher> spec = (root, query, cb) -> cb.and();
+        if (search != null && !search.isEmpty()) {
+            String pattern = "%" + LikePatterns.escape(search.toLowerCase(Locale.ROOT)) + "%";
+            spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("namaLengkap")), pattern, '\\'));
+        }
+        if (status != null && !status.isEmpty()) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        return teacherRepository.findSlice(spec, request.restrictTo(SLICE_SORT_PROPERTIES, maxPageSize))
+                .map(this::mapToTeacherResponse);
+    }
+
     @Override
     @Transactional
     public TeacherResponse updateTeacher(Long id, TeacherRequest request) {
@@ -111,12 +141,12 @@ public class TeacherServiceImpl implements TeacherService {
         
         // Check if NIP already exists for another teacher
         if (!teacher.getNip().equals(request.getNip()) && teacherRepository.existsByNip(request.getNip())) {
-            throw new IllegalArgumentException("NIP already exists: " + request.getNip());
+            throw new BadRequestException("NIP already exists: " + request.getNip());
         }
         
         // Check if email already exists for another teacher
         if (!teacher.getEmail().equals(request.getEmail()) && teacherRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
+            throw new BadRequestException("Email already exists: " + request.getEmail());
         }
         
         // Update user if userId is changed
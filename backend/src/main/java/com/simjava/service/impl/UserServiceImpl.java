@@ -3,16 +3,27 @@ package com.simjava.service.impl;
 import com.simjava.domain.security.User;
 import com.simjava.dto.UserRequest;
 import com.simjava.dto.UserResponse;
+import com.simjava.exception.BadRequestException;
 import com.simjava.exception.ResourceNotFoundException;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
+import com.simjava.repository.LikePatterns;
 import com.simjava.repository.UserRepository;
+import com.simjava.security.SecurityService;
+import com.simjava.security.UserDetailsCache;
 import com.simjava.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+import java.util.Set;
+
 
 
 @Service
@@ -21,6 +32,14 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final SecurityService securityService;
+
+    // Hanya kolom dengan indeks (kunci, id), lihat V26
+    private static final Set<String> SLICE_SORT_PROPERTIES = Set.of("id", "name");
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
 
     @Override
     @Transactional
@@ -58,9 +77,9 @@ public class UserServiceImpl implements UserService {
         Page<User> users;
         
         if (search != null && !search.isEmpty() && userType != null && !userType.isEmpty()) {
-            users = userRepository.findByNameContainingIgnoreCaseAndUserType(search, userType, pageable);
+            users = userRepository.findByNameContainingIgnoreCaseAndUserType(LikePatterns.escape(search), userType, pageable);
         } else if (search != null && !search.isEmpty()) {
-            users = userRepository.findByNameContainingIgnoreCase(search, pageable);
+            users = userRepository.findByNameContainingIgnoreCase(LikePatterns.escape(search), pageable);
         } else if (userType != null && !userType.isEmpty()) {
             users = userRepository.findByUserType(userType, pageable);
         } else {
@@ -70,18 +89,37 @@ public class UserServiceImpl implements UserService {
         return users.map(this::mapToUserResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<UserResponse> getUsersSlice(CursorRequest request, String search, String userType) {
+        Specification<User> spec = (root, query, cb) -> cb.and();
+        if (search != null && !search.isEmpty()) {
+            String pattern = "%" + LikePatterns.escape(search.toLowerCase(Locale.ROOT)) + "%";
+            spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, '\\'));
+        }
+        if (userType != null && !userType.isEmpty()) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("userType"), userType));
+        }
+        return userRepository.findSlice(spec, request.restrictTo(SLICE_SORT_PROPERTIES, maxPageSize))
+                .map(this::mapToUserResponse);
+    }
+
     @Override
     @Transactional
     public UserResponse updateUser(Long id, UserRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        userDetailsCache.evict(user.getEmail());
         
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        user.setUserType(request.getUserType());
-        user.setRole(request.getRole());
-        user.setStatus(request.getStatus());
-        user.setClassRoomId(request.getClassRoomId());
+        // Pengguna non-admin hanya boleh mengubah profilnya sendiri, bukan hak aksesnya
+        if (securityService.isAdmin()) {
+            user.setUserType(request.getUserType());
+            user.setRole(request.getRole());
+            user.setStatus(request.getStatus());
+            user.setClassRoomId(request.getClassRoomId());
+        }
         
         // Only update password if provided
         if (request.getPassword() != null && !request.getPassword().isEmpty()) {
@@ -95,10 +133,10 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        userDetailsCache.evict(user.getEmail());
+        userRepository.delete(user);
     }
 
     @Override
@@ -108,10 +146,11 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         
         if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
-            throw new IllegalArgumentException("Current password is incorrect");
+            throw new BadRequestException("Current password is incorrect");
         }
         
         user.setPassword(passwordEncoder.encode(newPassword));
+        userDetailsCache.evict(user.getEmail());
         
         User updatedUser = userRepository.save(user);
         return mapToUserResponse(updatedUser);
@@ -2,12 +2,19 @@ package com.simjava.service.kbm;
 
 import com.simjava.dto.kbm.TeacherJournalRequest;
 import com.simjava.dto.kbm.TeacherJournalResponse;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+
 public interface TeacherJournalService {
 
     TeacherJournalResponse createJournal(TeacherJournalRequest request);
 
-    Page<TeacherJournalResponse> getJournalsByTeacher(Long teacherId, Pageable pageable);
+    Page<TeacherJournalResponse> getJournalsByTeacher(Long teacherId, LocalDate startDate, LocalDate endDate,
+                                                      Pageable pageable);
+
+    CursorSlice<TeacherJournalResponse> getJournalsByTeacherSlice(Long teacherId, CursorRequest request);
 }
\ No newline at end of file
@@ -5,14 +5,24 @@ import com.simjava.domain.kbm.TeachingActivity;
 import com.simjava.domain.security.User;
 import com.simjava.dto.kbm.TeacherJournalRequest;
 import com.simjava.dto.kbm.TeacherJournalResponse;
+import com.simjava.exception.BadRequestException;
 import com.simjava.exception.ResourceNotFoundException;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import com.simjava.repository.UserRepository;
 import com.simjava.repository.kbm.TeacherJournalRepository;
 import com.simjava.repository.kbm.TeachingActivityRepository;
+import jakarta.persistence.criteria.JoinType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +32,15 @@ public class TeacherJournalServiceImpl implements TeacherJournalService {
     private final UserRepository userRepository;
     private final TeachingActivityRepository teachingActivityRepository;
 
+    private static final Set<String> SLICE_SORT_PROPERTIES = Set.of("id", "date");
+
+    // Batas rentang tanggal bila hanya salah satu ujung yang diberikan
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+
     @Override
     public TeacherJournalResponse createJournal(TeacherJournalRequest request) {
         User teacher = userRepository.findById(request.getTeacherId())
@@ -45,11 +64,41 @@ public class TeacherJournalServiceImpl implements TeacherJournalService {
     }
 
     @Override
-    public Page<TeacherJournalResponse> getJournalsByTeacher(Long teacherId, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<TeacherJournalResponse> getJournalsByTeacher(Long teacherId, LocalDate startDate, LocalDate endDate,
+                                                             Pageable pageable) {
+        if (!userRepository.existsById(teacherId)) {
+            throw new ResourceNotFoundException("User not found with id: " + teacherId);
+        }
+        if (startDate == null && endDate == null) {
+            return teacherJournalRepository.findByTeacherId(teacherId, pageable).map(this::toResponse);
+        }
+
+        LocalDate start = startDate != null ? startDate : MIN_DATE;
+        LocalDate end = endDate != null ? endDate : MAX_DATE;
+        if (start.isAfter(end)) {
+            throw new BadRequestException("startDate must not be after endDate");
+        }
+        return teacherJournalRepository.findByTeacherIdAndDateBetween(teacherId, start, end, pageable)
+                .map(this::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<TeacherJournalResponse> getJournalsByTeacherSlice(Long teacherId, CursorRequest request) {
         if (!userRepository.existsById(teacherId)) {
             throw new ResourceNotFoundException("User not found with id: " + teacherId);
         }
-        return teacherJournalRepository.findAll(pageable).map(this::toResponse);
+        Specification<TeacherJournal> byTeacher = (root, query, cb) -> {
+            // Fetch join hanya untuk query data, bukan untuk count(*)
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("teacher");
+                root.fetch("teachingActivity", JoinType.LEFT);
+            }
+            return cb.equal(root.get("teacher").get("id"), teacherId);
+        };
+        return teacherJournalRepository.findSlice(byTeacher, request.restrictTo(SLICE_SORT_PROPERTIES, maxPageSize))
+                .map(this::toResponse);
     }
 
     private TeacherJournalResponse toResponse(TeacherJournal journal) {
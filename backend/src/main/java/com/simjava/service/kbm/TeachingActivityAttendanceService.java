@@ -1,9 +1,14 @@
 package com.simjava.service.kbm;
 
+import com.simjava.dto.kbm.TeachingActivityAttendanceBulkRequest;
 import com.simjava.dto.kbm.TeachingActivityAttendanceRequest;
 import com.simjava.dto.kbm.TeachingActivityAttendanceResponse;
 
+import java.util.List;
+
 public interface TeachingActivityAttendanceService {
 
     TeachingActivityAttendanceResponse recordAttendance(TeachingActivityAttendanceRequest request);
+
+    List<TeachingActivityAttendanceResponse> recordBulkAttendance(TeachingActivityAttendanceBulkRequest request);
 }
\ No newline at end of file
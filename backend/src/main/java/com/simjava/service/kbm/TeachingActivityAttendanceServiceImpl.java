@@ -3,14 +3,21 @@ package com.simjava.service.kbm;
 import com.simjava.domain.kbm.TeachingActivity;
 import com.simjava.domain.kbm.TeachingActivityAttendance;
 import com.simjava.domain.security.Student;
+import com.simjava.dto.kbm.TeachingActivityAttendanceBulkRequest;
 import com.simjava.dto.kbm.TeachingActivityAttendanceRequest;
 import com.simjava.dto.kbm.TeachingActivityAttendanceResponse;
+import com.simjava.exception.BadRequestException;
 import com.simjava.exception.ResourceNotFoundException;
 import com.simjava.repository.StudentRepository;
 import com.simjava.repository.kbm.TeachingActivityAttendanceRepository;
 import com.simjava.repository.kbm.TeachingActivityRepository;
+import com.simjava.repository.projection.StudentRosterView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -38,6 +45,56 @@ public class TeachingActivityAttendanceServiceImpl implements TeachingActivityAt
         return toResponse(savedAttendance);
     }
 
+    @Override
+    @Transactional
+    public List<TeachingActivityAttendanceResponse> recordBulkAttendance(TeachingActivityAttendanceBulkRequest request) {
+        Long classRoomId = teachingActivityRepository.findClassRoomIdById(request.getTeachingActivityId())
+                .orElseThrow(() -> new ResourceNotFoundException("TeachingActivity not found with id: " + request.getTeachingActivityId()));
+
+        Set<Long> studentIds = new LinkedHashSet<>();
+        for (TeachingActivityAttendanceBulkRequest.Entry entry : request.getAttendances()) {
+            if (!studentIds.add(entry.getStudentId())) {
+                throw new BadRequestException("Student ID ganda dalam daftar kehadiran: " + entry.getStudentId());
+            }
+        }
+
+        // Validasi seluruh siswa terhadap daftar kelas dalam satu query
+        Map<Long, String> roster = studentRepository.findRosterByClassRoomIdAndIdIn(classRoomId, studentIds)
+                .stream()
+                .collect(Collectors.toMap(StudentRosterView::getId, StudentRosterView::getNamaLengkap));
+        if (roster.size() != studentIds.size()) {
+            List<Long> notInClass = studentIds.stream()
+                    .filter(id -> !roster.containsKey(id))
+                    .collect(Collectors.toList());
+            throw new BadRequestException("Siswa tidak terdaftar di kelas kegiatan ini: " + notInClass);
+        }
+
+        TeachingActivity teachingActivity = teachingActivityRepository.getReferenceById(request.getTeachingActivityId());
+        List<TeachingActivityAttendance> attendances = new ArrayList<>();
+        for (TeachingActivityAttendanceBulkRequest.Entry entry : request.getAttendances()) {
+            TeachingActivityAttendance attendance = new TeachingActivityAttendance();
+            attendance.setTeachingActivity(teachingActivity);
+            attendance.setStudent(studentRepository.getReferenceById(entry.getStudentId()));
+            attendance.setStatus(entry.getStatus());
+            attendance.setDescription(entry.getDescription());
+            attendances.add(attendance);
+        }
+
+        // Insert dikirim dalam batch JDBC (hibernate.jdbc.batch_size)
+        List<TeachingActivityAttendanceResponse> responses = new ArrayList<>();
+        for (TeachingActivityAttendance attendance : attendanceRepository.saveAll(attendances)) {
+            TeachingActivityAttendanceResponse response = new TeachingActivityAttendanceResponse();
+            response.setId(attendance.getId());
+            response.setTeachingActivityId(request.getTeachingActivityId());
+            response.setStudentId(attendance.getStudent().getId());
+            response.setStudentName(roster.get(attendance.getStudent().getId()));
+            response.setStatus(attendance.getStatus());
+            response.setDescription(attendance.getDescription());
+            responses.add(response);
+        }
+        return responses;
+    }
+
     private TeachingActivityAttendanceResponse toResponse(TeachingActivityAttendance attendance) {
         TeachingActivityAttendanceResponse response = new TeachingActivityAttendanceResponse();
         response.setId(attendance.getId());
@@ -2,6 +2,8 @@ package com.simjava.service.kbm;
 
 import com.simjava.dto.kbm.TeachingActivityRequest;
 import com.simjava.dto.kbm.TeachingActivityResponse;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,6 +13,8 @@ public interface TeachingActivityService {
 
     Page<TeachingActivityResponse> getAllTeachingActivities(Pageable pageable);
 
+    CursorSlice<TeachingActivityResponse> getTeachingActivitiesSlice(CursorRequest request);
+
     TeachingActivityResponse getTeachingActivityById(Long id);
 
     TeachingActivityResponse updateTeachingActivity(Long id, TeachingActivityRequest request);
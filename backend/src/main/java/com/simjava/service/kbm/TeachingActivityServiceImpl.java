@@ -4,13 +4,21 @@ import com.simjava.domain.kbm.TeachingActivity;
 import com.simjava.domain.security.User;
 import com.simjava.dto.kbm.TeachingActivityRequest;
 import com.simjava.dto.kbm.TeachingActivityResponse;
+import com.simjava.event.TeachingActivityCreatedEvent;
 import com.simjava.exception.ResourceNotFoundException;
+import com.simjava.repository.CursorRequest;
+import com.simjava.repository.CursorSlice;
 import com.simjava.repository.UserRepository;
 import com.simjava.repository.kbm.TeachingActivityRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -18,8 +26,15 @@ public class TeachingActivityServiceImpl implements TeachingActivityService {
 
     private final TeachingActivityRepository teachingActivityRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Set<String> SLICE_SORT_PROPERTIES = Set.of("id", "tanggal");
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
 
     @Override
+    @Transactional
     public TeachingActivityResponse createTeachingActivity(TeachingActivityRequest request) {
         User guru = userRepository.findById(request.getGuruId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + request.getGuruId()));
@@ -34,7 +49,9 @@ public class TeachingActivityServiceImpl implements TeachingActivityService {
         teachingActivity.setClassRoomId(request.getClassRoomId());
 
         TeachingActivity savedActivity = teachingActivityRepository.save(teachingActivity);
-        return toResponse(savedActivity);
+        TeachingActivityResponse response = toResponse(savedActivity);
+        eventPublisher.publishEvent(new TeachingActivityCreatedEvent(response));
+        return response;
     }
 
     @Override
@@ -42,6 +59,13 @@ public class TeachingActivityServiceImpl implements TeachingActivityService {
         return teachingActivityRepository.findAll(pageable).map(this::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<TeachingActivityResponse> getTeachingActivitiesSlice(CursorRequest request) {
+        return teachingActivityRepository.findSlice(null, request.restrictTo(SLICE_SORT_PROPERTIES, maxPageSize))
+                .map(this::toResponse);
+    }
+
     @Override
     public TeachingActivityResponse getTeachingActivityById(Long id) {
         TeachingActivity teachingActivity = teachingActivityRepository.findById(id)
@@ -0,0 +1,65 @@
+package com.simjava.service.push;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pengiriman lewat FCM {@code sendEachForMulticast} (maksimal 500 token per panggilan).
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.push.transport", havingValue = "fcm")
+public class FcmPushTransport implements PushTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(FcmPushTransport.class);
+
+    @Override
+    public List<PushStatus> sendMulticast(List<String> tokens, String title, String body, Map<String, String> data) {
+        MulticastMessage.Builder message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder().setTitle(title).setBody(body).build());
+        if (data != null) {
+            message.putAllData(data);
+        }
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message.build());
+            List<PushStatus> statuses = new ArrayList<>(tokens.size());
+            for (SendResponse sendResponse : response.getResponses()) {
+                statuses.add(statusOf(sendResponse));
+            }
+            return statuses;
+        } catch (FirebaseMessagingException e) {
+            logger.error("Failed to send multicast notification, error: {}", e.getMessage());
+            return Collections.nCopies(tokens.size(), PushStatus.FAILED);
+        }
+    }
+
+    private static PushStatus statusOf(SendResponse response) {
+        return response.isSuccessful() ? PushStatus.SENT : statusOf(response.getException().getMessagingErrorCode());
+    }
+
+    /**
+     * Hanya UNREGISTERED yang berarti tokennya mati. INVALID_ARGUMENT juga dipakai FCM untuk
+     * payload yang salah (data terlalu besar, field tidak valid), jadi tokennya tidak disentuh.
+     */
+    static PushStatus statusOf(MessagingErrorCode code) {
+        if (code == MessagingErrorCode.UNREGISTERED) {
+            return PushStatus.INVALID_TOKEN;
+        }
+        return code == MessagingErrorCode.INVALID_ARGUMENT ? PushStatus.REJECTED : PushStatus.FAILED;
+    }
+}
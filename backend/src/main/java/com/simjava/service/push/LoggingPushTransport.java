@@ -0,0 +1,26 @@
+package com.simjava.service.push;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transport simulasi untuk lingkungan tanpa kredensial Firebase; semua token dianggap terkirim.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.push.transport", havingValue = "logging", matchIfMissing = true)
+public class LoggingPushTransport implements PushTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingPushTransport.class);
+
+    @Override
+    public List<PushStatus> sendMulticast(List<String> tokens, String title, String body, Map<String, String> data) {
+        logger.info("Simulating sending notification to {} devices, title: {}, body: {}", tokens.size(), title, body);
+        return Collections.nCopies(tokens.size(), PushStatus.SENT);
+    }
+}
@@ -0,0 +1,19 @@
+package com.simjava.service.push;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Ringkasan satu fan-out push.
+ */
+@Value
+public class PushFanOutResult {
+    int sent;
+    /** Token yang gagal sementara dan boleh dicoba lagi */
+    List<String> failedTokens;
+    /** Token yang ditolak FCM atau sudah diketahui tidak valid */
+    List<String> invalidTokens;
+    /** Jumlah token yang pesannya ditolak FCM karena isi pesan, bukan karena tokennya */
+    int rejected;
+}
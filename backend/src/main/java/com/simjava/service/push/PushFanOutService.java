@@ -0,0 +1,163 @@
+package com.simjava.service.push;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.simjava.event.InvalidPushTokensEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out push ke banyak token.
+ *
+ * Token di-dedupe, token yang sudah diketahui tidak valid dilewati, sisanya dipecah per
+ * chunk-size (batas multicast FCM 500) dan chunk dikirim paralel sebanyak parallelism.
+ * Token yang ditolak FCM diingat selama invalid-token-ttl dan dipublikasikan lewat
+ * {@link InvalidPushTokensEvent}.
+ */
+@Service
+public class PushFanOutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushFanOutService.class);
+
+    private final PushTransport transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, Boolean> invalidTokens;
+    private final Map<PushStatus, Counter> tokenCounters = new EnumMap<>(PushStatus.class);
+    private final Counter skippedCounter;
+    private final Timer fanOutTimer;
+    private final Timer chunkTimer;
+
+    public PushFanOutService(PushTransport transport,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.notifications.push.chunk-size:500}") int chunkSize,
+                             @Value("${app.notifications.push.parallelism:4}") int parallelism,
+                             @Value("${app.notifications.push.invalid-token-ttl:7d}") Duration invalidTokenTtl) {
+        this.transport = transport;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        // Antrian terbatas + CallerRunsPolicy: fan-out yang sangat besar ikut dikerjakan thread pemanggil
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(100), r -> {
+                    Thread thread = new Thread(r, "push-fanout-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.invalidTokens = Caffeine.newBuilder()
+                .expireAfterWrite(invalidTokenTtl)
+                .maximumSize(100_000)
+                .build();
+        for (PushStatus status : PushStatus.values()) {
+            tokenCounters.put(status, Counter.builder("notification.push.tokens")
+                    .tag("status", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.skippedCounter = Counter.builder("notification.push.tokens")
+                .tag("status", "skipped")
+                .register(meterRegistry);
+        this.fanOutTimer = Timer.builder("notification.push.fanout").register(meterRegistry);
+        this.chunkTimer = Timer.builder("notification.push.chunk").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public PushFanOutResult send(List<String> tokens, String title, String body, Map<String, String> data) {
+        return fanOutTimer.record(() -> doSend(tokens, title, body, data));
+    }
+
+    private PushFanOutResult doSend(List<String> tokens, String title, String body, Map<String, String> data) {
+        List<String> invalid = new ArrayList<>();
+        List<String> targets = new ArrayList<>();
+        for (String token : new LinkedHashSet<>(tokens)) {
+            if (invalidTokens.getIfPresent(token) != null) {
+                invalid.add(token);
+            } else {
+                targets.add(token);
+            }
+        }
+        skippedCounter.increment(invalid.size());
+
+        List<CompletableFuture<List<PushStatus>>> futures = new ArrayList<>();
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<String> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            chunks.add(chunk);
+            futures.add(CompletableFuture.supplyAsync(() -> sendChunk(chunk, title, body, data), executor));
+        }
+
+        int sent = 0;
+        int rejected = 0;
+        List<String> failed = new ArrayList<>();
+        List<String> newlyInvalid = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            List<String> chunk = chunks.get(i);
+            List<PushStatus> statuses = futures.get(i).join();
+            for (int j = 0; j < chunk.size(); j++) {
+                PushStatus status = statuses.get(j);
+                tokenCounters.get(status).increment();
+                if (status == PushStatus.SENT) {
+                    sent++;
+                } else if (status == PushStatus.REJECTED) {
+                    rejected++;
+                } else if (status == PushStatus.INVALID_TOKEN) {
+                    newlyInvalid.add(chunk.get(j));
+                } else {
+                    failed.add(chunk.get(j));
+                }
+            }
+        }
+
+        if (!newlyInvalid.isEmpty()) {
+            newlyInvalid.forEach(token -> invalidTokens.put(token, Boolean.TRUE));
+            eventPublisher.publishEvent(new InvalidPushTokensEvent(List.copyOf(newlyInvalid)));
+            invalid.addAll(newlyInvalid);
+        }
+        if (rejected > 0) {
+            logger.warn("FCM rejected the message for {} tokens (invalid payload?)", rejected);
+        }
+        logger.debug("Push fan-out to {} tokens: {} sent, {} failed, {} invalid, {} rejected",
+                tokens.size(), sent, failed.size(), invalid.size(), rejected);
+        return new PushFanOutResult(sent, failed, invalid, rejected);
+    }
+
+    private List<PushStatus> sendChunk(List<String> chunk, String title, String body, Map<String, String> data) {
+        return chunkTimer.record(() -> {
+            try {
+                List<PushStatus> statuses = transport.sendMulticast(chunk, title, body, data);
+                if (statuses.size() != chunk.size()) {
+                    throw new IllegalStateException("Transport returned " + statuses.size() + " results for " + chunk.size() + " tokens");
+                }
+                return statuses;
+            } catch (RuntimeException e) {
+                logger.error("Failed to send push chunk of {} tokens, error: {}", chunk.size(), e.getMessage());
+                return Collections.nCopies(chunk.size(), PushStatus.FAILED);
+            }
+        });
+    }
+}
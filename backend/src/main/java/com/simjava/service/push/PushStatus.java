@@ -0,0 +1,14 @@
+package com.simjava.service.push;
+
+/**
+ * Hasil pengiriman push untuk satu token.
+ */
+public enum PushStatus {
+    SENT,
+    /** Token tidak terdaftar / tidak valid, tidak perlu dicoba lagi */
+    INVALID_TOKEN,
+    /** Pesan ditolak (mis. payload tidak valid); token tetap dipakai, tidak perlu dicoba lagi */
+    REJECTED,
+    /** Gagal sementara, boleh dicoba lagi */
+    FAILED
+}
@@ -0,0 +1,17 @@
+package com.simjava.service.push;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pengirim push untuk satu chunk token. Implementasi dipilih lewat
+ * {@code app.notifications.push.transport}.
+ */
+public interface PushTransport {
+
+    /**
+     * @param tokens maksimal sebesar chunk-size fan-out
+     * @return status per token, urutannya sama dengan {@code tokens}
+     */
+    List<PushStatus> sendMulticast(List<String> tokens, String title, String body, Map<String, String> data);
+}
@@ -0,0 +1,69 @@
+package com.simjava.service.schedule;
+
+import com.simjava.dto.AttendanceRequest;
+import com.simjava.exception.BadRequestException;
+import com.simjava.service.geofence.GeoPoint;
+import com.simjava.service.geofence.GeofenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Aturan check-in berdasarkan jadwal siswa, seluruhnya dari cache tanpa query:
+ * pengguna yang diblokir ditolak, pengguna non-WFA harus berada di kantor jadwalnya,
+ * dan absensi reguler setelah awal shift ditandai terlambat. Siswa tanpa jadwal
+ * cukup berada di salah satu kantor aktif.
+ */
+@Service
+@RequiredArgsConstructor
+public class CheckInPolicyService {
+
+    private static final String REGULAR = "regular";
+    private static final String PRESENT = "hadir";
+
+    private final ScheduleSnapshotService scheduleSnapshotService;
+    private final GeofenceService geofenceService;
+
+    @Value("${app.attendance.check-in.late-tolerance:0m}")
+    private Duration lateTolerance = Duration.ZERO;
+
+    /**
+     * Validasi check-in dan tentukan apakah check-in terlambat.
+     *
+     * @return true jika absensi reguler "hadir" dicatat setelah awal shift (ditambah toleransi)
+     * @throws AccessDeniedException jika absensi pengguna diblokir
+     * @throws BadRequestException jika lokasi di luar kantor yang diwajibkan atau format jam salah
+     */
+    public boolean apply(AttendanceRequest request) {
+        Optional<ResolvedSchedule> found = scheduleSnapshotService.findByStudentId(request.getStudentId());
+        if (found.isEmpty()) {
+            geofenceService.validateCheckIn(request.getLocation());
+            return false;
+        }
+
+        ResolvedSchedule schedule = found.get();
+        if (schedule.isBanned()) {
+            throw new AccessDeniedException("Absensi diblokir untuk pengguna ini");
+        }
+        if (!schedule.isWfa() && geofenceService.isActive()
+                && !geofenceService.isWithinOffice(schedule.getOfficeId(), GeoPoint.parse(request.getLocation()))) {
+            throw new BadRequestException("Lokasi check-in di luar area " + schedule.getOfficeName());
+        }
+        return REGULAR.equals(request.getType()) && PRESENT.equals(request.getStatus())
+                && schedule.isLate(parseTime(request.getTimeIn()), lateTolerance);
+    }
+
+    private static LocalTime parseTime(String value) {
+        try {
+            return LocalTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Format jam masuk harus HH:mm atau HH:mm:ss");
+        }
+    }
+}
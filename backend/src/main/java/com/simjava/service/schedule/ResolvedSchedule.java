@@ -0,0 +1,38 @@
+package com.simjava.service.schedule;
+
+import com.simjava.repository.projection.ResolvedScheduleView;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * Jadwal pengguna yang sudah digabung dengan shift dan kantornya. Immutable, aman dibagi antar-thread.
+ */
+@Value
+public class ResolvedSchedule {
+    long userId;
+    // null jika pengguna bukan siswa
+    Long studentId;
+    long shiftId;
+    String shiftName;
+    LocalTime startTime;
+    LocalTime endTime;
+    long officeId;
+    String officeName;
+    boolean wfa;
+    boolean banned;
+
+    static ResolvedSchedule of(ResolvedScheduleView view) {
+        return new ResolvedSchedule(view.getUserId(), view.getStudentId(), view.getShiftId(), view.getShiftName(),
+                view.getStartTime(), view.getEndTime(), view.getOfficeId(), view.getOfficeName(),
+                Boolean.TRUE.equals(view.getWfa()), Boolean.TRUE.equals(view.getBanned()));
+    }
+
+    /**
+     * Apakah jam masuk melewati awal shift ditambah toleransi.
+     */
+    public boolean isLate(LocalTime timeIn, Duration tolerance) {
+        return timeIn.isAfter(startTime.plus(tolerance));
+    }
+}
@@ -0,0 +1,47 @@
+package com.simjava.service.schedule;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Seluruh jadwal yang sudah di-resolve, diindeks per user id dan per student id.
+ * Tidak pernah diubah setelah dibuat; perubahan jadwal menghasilkan snapshot baru.
+ */
+final class ScheduleSnapshot {
+
+    static final ScheduleSnapshot EMPTY = new ScheduleSnapshot(Map.of(), Map.of());
+
+    private final Map<Long, ResolvedSchedule> byUserId;
+    private final Map<Long, ResolvedSchedule> byStudentId;
+
+    private ScheduleSnapshot(Map<Long, ResolvedSchedule> byUserId, Map<Long, ResolvedSchedule> byStudentId) {
+        this.byUserId = byUserId;
+        this.byStudentId = byStudentId;
+    }
+
+    static ScheduleSnapshot of(List<ResolvedSchedule> schedules) {
+        Map<Long, ResolvedSchedule> byUserId = new HashMap<>();
+        Map<Long, ResolvedSchedule> byStudentId = new HashMap<>();
+        for (ResolvedSchedule schedule : schedules) {
+            byUserId.put(schedule.getUserId(), schedule);
+            if (schedule.getStudentId() != null) {
+                byStudentId.put(schedule.getStudentId(), schedule);
+            }
+        }
+        return new ScheduleSnapshot(Map.copyOf(byUserId), Map.copyOf(byStudentId));
+    }
+
+    Optional<ResolvedSchedule> findByUserId(Long userId) {
+        return Optional.ofNullable(userId == null ? null : byUserId.get(userId));
+    }
+
+    Optional<ResolvedSchedule> findByStudentId(Long studentId) {
+        return Optional.ofNullable(studentId == null ? null : byStudentId.get(studentId));
+    }
+
+    int size() {
+        return byUserId.size();
+    }
+}
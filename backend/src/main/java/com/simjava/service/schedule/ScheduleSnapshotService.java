@@ -0,0 +1,103 @@
+package com.simjava.service.schedule;
+
+import com.simjava.exception.ServiceUnavailableException;
+import com.simjava.repository.OfficeRepository;
+import com.simjava.repository.ScheduleRepository;
+import com.simjava.repository.ShiftRepository;
+import com.simjava.repository.StudentRepository;
+import com.simjava.repository.projection.ChangeSignatureView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache jadwal pengguna (user → shift → kantor) untuk jalur check-in.
+ *
+ * Semua jadwal dimuat dengan satu query ke {@link ScheduleSnapshot} yang diganti utuh saat tabel
+ * schedules, shifts, offices atau students berubah, sehingga check-in tidak butuh query tambahan.
+ * Perubahan dideteksi dari jumlah baris dan updated_at terakhir tiap tabel.
+ *
+ * Snapshot dimuat saat aplikasi siap. Selama belum pernah berhasil dimuat, pencarian jadwal gagal
+ * (503) alih-alih menganggap pengguna tidak punya jadwal.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleSnapshotService.class);
+
+    private final ScheduleRepository scheduleRepository;
+    private final ShiftRepository shiftRepository;
+    private final OfficeRepository officeRepository;
+    private final StudentRepository studentRepository;
+
+    private volatile ScheduleSnapshot snapshot = ScheduleSnapshot.EMPTY;
+    private volatile boolean loaded;
+    private volatile String signature;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refreshIfChanged();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load schedule snapshot at startup, check-ins are rejected until it loads: {}",
+                    e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.attendance.schedule-refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        String currentSignature = Stream.of(scheduleRepository.findSignature(), shiftRepository.findSignature(),
+                        officeRepository.findSignature(), studentRepository.findSignature())
+                .map(ScheduleSnapshotService::format)
+                .collect(Collectors.joining("|"));
+        if (!currentSignature.equals(signature)) {
+            reload();
+            signature = currentSignature;
+        }
+    }
+
+    public void reload() {
+        List<ResolvedSchedule> schedules = scheduleRepository.findAllResolved().stream()
+                .map(ResolvedSchedule::of)
+                .collect(Collectors.toList());
+        snapshot = ScheduleSnapshot.of(schedules);
+        loaded = true;
+        logger.info("Loaded {} resolved schedules", snapshot.size());
+    }
+
+    /**
+     * @throws ServiceUnavailableException jika snapshot belum pernah berhasil dimuat
+     */
+    public Optional<ResolvedSchedule> findByUserId(Long userId) {
+        return loadedSnapshot().findByUserId(userId);
+    }
+
+    /**
+     * @throws ServiceUnavailableException jika snapshot belum pernah berhasil dimuat
+     */
+    public Optional<ResolvedSchedule> findByStudentId(Long studentId) {
+        return loadedSnapshot().findByStudentId(studentId);
+    }
+
+    private ScheduleSnapshot loadedSnapshot() {
+        if (!loaded) {
+            logger.warn("Schedule snapshot not loaded yet, rejecting check-in");
+            throw new ServiceUnavailableException("Data jadwal belum dimuat, silakan coba lagi", 30);
+        }
+        return snapshot;
+    }
+
+    private static String format(ChangeSignatureView view) {
+        return view.getTotal() + ":" + view.getLastUpdatedAt();
+    }
+}
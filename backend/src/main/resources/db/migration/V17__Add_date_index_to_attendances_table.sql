@@ -0,0 +1,6 @@
+-- Migration: V17__Add_date_index_to_attendances_table.sql
+-- Description: Index attendances by date for dashboard date-range queries
+-- Author: System
+-- Date: 2024-01-15
+
+CREATE INDEX idx_attendances_date ON attendances(date);
@@ -0,0 +1,21 @@
+-- Migration: V18__Create_attendance_daily_rollup_table.sql
+-- Description: Create daily attendance rollup used by dashboard statistics
+-- Author: System
+-- Date: 2024-01-15
+
+-- Create attendance_daily_rollup table (rekap harian absensi)
+CREATE TABLE attendance_daily_rollup (
+    date DATE NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    total BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (date, status, type)
+);
+
+-- Backfill from existing attendances
+INSERT INTO attendance_daily_rollup (date, status, type, total)
+SELECT date, status, type, COUNT(*)
+FROM attendances
+WHERE date IS NOT NULL AND status IS NOT NULL AND type IS NOT NULL
+GROUP BY date, status, type;
@@ -0,0 +1,6 @@
+-- Migration: V19__Add_tanggal_jam_mulai_index_to_teaching_activities_table.sql
+-- Description: (tanggal, jam_mulai) index for upcoming-class date-range queries on teaching activities
+-- Author: System
+-- Date: 2024-01-15
+
+CREATE INDEX idx_teaching_activities_tanggal_jam_mulai ON teaching_activities(tanggal, jam_mulai);
@@ -0,0 +1,6 @@
+-- Migration: V20__Set_teaching_activity_attendances_sequence_increment.sql
+-- Description: Match the teaching_activity_attendances sequence increment to the Hibernate allocation size for batched inserts
+-- Author: System
+-- Date: 2024-01-15
+
+ALTER SEQUENCE teaching_activity_attendances_id_seq INCREMENT BY 50;
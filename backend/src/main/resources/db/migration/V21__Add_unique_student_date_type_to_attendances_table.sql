@@ -0,0 +1,25 @@
+-- Migration: V21__Add_unique_student_date_type_to_attendances_table.sql
+-- Description: One attendance per student, date and type so retried check-ins are idempotent
+-- Author: System
+-- Date: 2024-01-15
+
+ALTER TABLE attendances ADD COLUMN IF NOT EXISTS student_id BIGINT;
+
+-- Remove duplicates created by retried check-ins, keeping the first record
+DELETE FROM attendances a
+USING attendances b
+WHERE a.student_id = b.student_id
+  AND a.date = b.date
+  AND a.type = b.type
+  AND a.id > b.id;
+
+CREATE UNIQUE INDEX uk_attendances_student_date_type ON attendances(student_id, date, type);
+
+-- Recompute the daily rollup without the removed duplicates
+DELETE FROM attendance_daily_rollup;
+
+INSERT INTO attendance_daily_rollup (date, status, type, total)
+SELECT date, status, type, COUNT(*)
+FROM attendances
+WHERE date IS NOT NULL AND status IS NOT NULL AND type IS NOT NULL
+GROUP BY date, status, type;
@@ -0,0 +1,6 @@
+-- Migration: V22__Add_available_index_to_jobs_table.sql
+-- Description: Partial index on available, unreserved jobs per queue for the job worker poll
+-- Author: System
+-- Date: 2024-01-15
+
+CREATE INDEX idx_jobs_queue_available_at ON jobs(queue, available_at) WHERE reserved_at IS NULL;
@@ -0,0 +1,7 @@
+-- Migration: V23__Add_inbox_indexes_to_notifications_table.sql
+-- Description: Unread-count and newest-first indexes for the notification inbox
+-- Author: System
+-- Date: 2024-01-15
+
+CREATE INDEX idx_notifications_user_unread ON notifications(user_id) WHERE is_read = false;
+CREATE INDEX idx_notifications_user_id_desc ON notifications(user_id, id DESC);
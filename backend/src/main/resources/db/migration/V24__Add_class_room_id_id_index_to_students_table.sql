@@ -0,0 +1,6 @@
+-- Migration: V24__Add_class_room_id_id_index_to_students_table.sql
+-- Description: (class_room_id, id) index for paged and keyset student listings by class
+-- Author: System
+-- Date: 2024-01-15
+
+CREATE INDEX idx_students_class_room_id_id ON students(class_room_id, id);
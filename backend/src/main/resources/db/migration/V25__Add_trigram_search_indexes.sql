@@ -0,0 +1,17 @@
+-- Migration: V25__Add_trigram_search_indexes.sql
+-- Description: pg_trgm GIN indexes so name searches (lower(col) LIKE '%x%' and similarity) avoid sequential scans
+-- Author: System
+-- Date: 2024-01-15
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_nama_lengkap_trgm ON students USING gin (lower(nama_lengkap) gin_trgm_ops);
+
+-- Tabel teachers dibuat oleh Hibernate pada database baru, jadi hanya diindeks jika sudah ada
+DO $$
+BEGIN
+    IF to_regclass('teachers') IS NOT NULL THEN
+        EXECUTE 'CREATE INDEX IF NOT EXISTS idx_teachers_nama_lengkap_trgm ON teachers USING gin (lower(nama_lengkap) gin_trgm_ops)';
+    END IF;
+END $$;
@@ -0,0 +1,7 @@
+-- Migration: V26__Add_keyset_indexes_to_users_and_teaching_activities_tables.sql
+-- Description: (name, id) and (tanggal, id) indexes for keyset pagination of users and teaching activities
+-- Author: System
+-- Date: 2024-01-15
+
+CREATE INDEX idx_users_name_id ON users(name, id);
+CREATE INDEX idx_teaching_activities_tanggal_id ON teaching_activities(tanggal, id);
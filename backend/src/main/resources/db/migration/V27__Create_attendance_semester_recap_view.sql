@@ -0,0 +1,31 @@
+-- Migration: V27__Create_attendance_semester_recap_view.sql
+-- Description: Per-student, per-semester attendance recap (hadir/izin/sakit/alpa) refreshed concurrently by the application
+-- Author: System
+-- Date: 2024-01-15
+
+-- Semester diturunkan dari tanggal absensi: Juli-Desember = ganjil, Januari-Juni = genap,
+-- tahun ajaran "YYYY/YYYY+1" dicocokkan ke school_years. Hanya absensi tipe regular yang dihitung.
+CREATE MATERIALIZED VIEW attendance_semester_recap AS
+SELECT a.student_id,
+       sy.id AS school_year_id,
+       sy.semester,
+       COUNT(*) FILTER (WHERE a.status = 'hadir') AS hadir,
+       COUNT(*) FILTER (WHERE a.status = 'izin') AS izin,
+       COUNT(*) FILTER (WHERE a.status = 'sakit') AS sakit,
+       COUNT(*) FILTER (WHERE a.status = 'alpa') AS alpa,
+       COUNT(*) AS total
+FROM attendances a
+CROSS JOIN LATERAL (
+    SELECT CASE WHEN EXTRACT(MONTH FROM a.date) >= 7 THEN 'ganjil' ELSE 'genap' END AS semester,
+           CASE WHEN EXTRACT(MONTH FROM a.date) >= 7 THEN EXTRACT(YEAR FROM a.date)::int
+                ELSE EXTRACT(YEAR FROM a.date)::int - 1 END AS start_year
+) p
+JOIN school_years sy ON sy.tahun = p.start_year || '/' || (p.start_year + 1) AND sy.semester = p.semester
+WHERE a.student_id IS NOT NULL
+  AND a.date IS NOT NULL
+  AND a.type = 'regular'
+GROUP BY a.student_id, sy.id, sy.semester;
+
+-- Wajib untuk REFRESH MATERIALIZED VIEW CONCURRENTLY, sekaligus indeks lookup per siswa
+CREATE UNIQUE INDEX uk_attendance_semester_recap_student_year_semester
+    ON attendance_semester_recap(student_id, school_year_id, semester);
@@ -0,0 +1,6 @@
+-- Migration: V28__Add_is_late_to_attendances.sql
+-- Description: Add is_late flag computed from the student's schedule at check-in
+-- Author: System
+-- Date: 2024-01-15
+
+ALTER TABLE attendances ADD COLUMN IF NOT EXISTS is_late BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,12 @@
+-- Migration: V29__Add_keyset_index_to_teachers_table.sql
+-- Description: (nama_lengkap, id) index for keyset pagination of teachers sorted by name
+-- Author: System
+-- Date: 2024-01-15
+
+-- Tabel teachers dibuat oleh Hibernate pada database baru, jadi hanya diindeks jika sudah ada
+DO $$
+BEGIN
+    IF to_regclass('teachers') IS NOT NULL THEN
+        EXECUTE 'CREATE INDEX IF NOT EXISTS idx_teachers_nama_lengkap_id ON teachers(nama_lengkap, id)';
+    END IF;
+END $$;
@@ -0,0 +1,31 @@
+-- Migration: V30__Create_teachers_table.sql
+-- Description: Create teachers table (previously only created by Hibernate) and its trigram search index
+-- Author: System
+-- Date: 2024-01-15
+
+-- Database lama sudah punya tabel dari Hibernate; database baru mendapatkannya di sini,
+-- sehingga indeks yang dilewati V25 tetap dibuat di keduanya
+CREATE TABLE IF NOT EXISTS teachers (
+    id BIGSERIAL PRIMARY KEY,
+    nip VARCHAR(255) UNIQUE,
+    nama_lengkap VARCHAR(255),
+    email VARCHAR(255),
+    telp VARCHAR(255),
+    jenis_kelamin VARCHAR(255),
+    tempat_lahir VARCHAR(255),
+    tanggal_lahir DATE,
+    alamat VARCHAR(255),
+    agama VARCHAR(255),
+    pendidikan_terakhir VARCHAR(255),
+    jurusan VARCHAR(255),
+    tahun_lulus INTEGER,
+    status_kepegawaian VARCHAR(255),
+    status VARCHAR(255),
+    foto VARCHAR(255),
+    user_id BIGINT UNIQUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_teachers_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_teachers_nama_lengkap_trgm ON teachers USING gin (lower(nama_lengkap) gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- Migration: V31__Add_keyset_index_to_teachers_table_on_new_installs.sql
+-- Description: (nama_lengkap, id) index for teachers keyset pagination, now that V30 guarantees the table exists
+-- Author: System
+-- Date: 2024-01-15
+
+-- V29 melewati indeks ini pada database baru karena tabel teachers belum ada saat itu
+CREATE INDEX IF NOT EXISTS idx_teachers_nama_lengkap_id ON teachers(nama_lengkap, id);
@@ -0,0 +1,50 @@
+package com.simjava.repository;
+
+import com.simjava.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CursorCodecTest {
+
+    @Test
+    void cursorRoundTripsSortKeyAndId() {
+        String encoded = CursorCodec.encode("tanggal", Sort.Direction.DESC, LocalDate.of(2024, 1, 15), 42L);
+
+        CursorCodec.Cursor cursor = CursorCodec.decode(encoded);
+
+        assertEquals("tanggal", cursor.getProperty());
+        assertEquals(Sort.Direction.DESC, cursor.getDirection());
+        assertEquals(42L, cursor.getId());
+        assertEquals(LocalDate.of(2024, 1, 15), CursorCodec.valueAs(cursor, LocalDate.class));
+    }
+
+    @Test
+    void nullSortKeyIsPreserved() {
+        CursorCodec.Cursor cursor = CursorCodec.decode(CursorCodec.encode("namaLengkap", Sort.Direction.ASC, null, 7L));
+
+        assertNull(CursorCodec.valueAs(cursor, String.class));
+        assertEquals(7L, cursor.getId());
+    }
+
+    @Test
+    void tamperedCursorIsRejected() {
+        assertThrows(BadRequestException.class, () -> CursorCodec.decode("bukan-cursor"));
+        assertThrows(BadRequestException.class, () -> CursorCodec.decode("e30"));
+    }
+
+    @Test
+    void requestIsRestrictedToIndexedSortsAndMaxSize() {
+        CursorRequest request = CursorRequest.of(null, 500, "name,desc", true);
+
+        CursorRequest restricted = request.restrictTo(Set.of("id", "name"), 100);
+
+        assertEquals(100, restricted.getSize());
+        assertEquals(Sort.Direction.DESC, restricted.getDirection());
+        assertThrows(BadRequestException.class, () -> request.restrictTo(Set.of("id"), 100));
+    }
+}
@@ -0,0 +1,71 @@
+package com.simjava.repository;
+
+import com.simjava.dto.SearchResultResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchJdbcRepositoryTest {
+
+    private EmbeddedDatabase database;
+    private SearchJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE teachers (id BIGINT PRIMARY KEY, nama_lengkap VARCHAR(100), email VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(100), email VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE students (id BIGINT PRIMARY KEY, nama_lengkap VARCHAR(100), email VARCHAR(100))");
+        jdbcTemplate.update("INSERT INTO teachers VALUES (1, 'Budi Santoso', 'budi@sekolah.id')");
+        jdbcTemplate.update("INSERT INTO users VALUES (2, 'Andi Budiman', 'andi@sekolah.id')");
+        jdbcTemplate.update("INSERT INTO students VALUES (3, 'Siti 100%_Budi', 'siti@sekolah.id')");
+        jdbcTemplate.update("INSERT INTO students VALUES (4, 'Rina', 'rina@sekolah.id')");
+        repository = new SearchJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void fallbackSearchRanksPrefixMatchesFirstAcrossTables() {
+        List<SearchResultResponse> results = repository.search("budi",
+                Set.of(SearchJdbcRepository.TEACHER, SearchJdbcRepository.USER, SearchJdbcRepository.STUDENT), 10);
+
+        assertEquals(3, results.size());
+        assertEquals(SearchJdbcRepository.TEACHER, results.get(0).getType());
+        assertEquals(1L, results.get(0).getId());
+        assertTrue(results.get(0).getScore() > results.get(1).getScore());
+    }
+
+    @Test
+    void likeWildcardsInQueryAreMatchedLiterally() {
+        List<SearchResultResponse> results = repository.search("%_",
+                Set.of(SearchJdbcRepository.STUDENT), 10);
+
+        assertEquals(1, results.size());
+        assertEquals(3L, results.get(0).getId());
+    }
+
+    @Test
+    void searchIsLimitedToRequestedTypes() {
+        List<SearchResultResponse> results = repository.search("budi", Set.of(SearchJdbcRepository.USER), 10);
+
+        assertEquals(1, results.size());
+        assertEquals(SearchJdbcRepository.USER, results.get(0).getType());
+    }
+}
@@ -0,0 +1,70 @@
+package com.simjava.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "test_secret_key_that_is_definitely_long_enough_for_hs256";
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "expiration", 60_000L);
+        provider.init();
+    }
+
+    @Test
+    void parseAndValidateReturnsClaimsForValidToken() {
+        User user = new User("guru01", "x", List.of());
+        String token = provider.generateToken(new UsernamePasswordAuthenticationToken(user, null));
+
+        Optional<JwtClaims> claims = provider.parseAndValidate(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("guru01", claims.get().getSubject());
+        assertNotNull(claims.get().getExpiration());
+        assertTrue(provider.validateToken(token));
+    }
+
+    @Test
+    void parseAndValidateRejectsExpiredToken() {
+        String token = Jwts.builder()
+                .subject("guru01")
+                .issuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertTrue(provider.parseAndValidate(token).isEmpty());
+        assertFalse(provider.validateToken(token));
+    }
+
+    @Test
+    void parseAndValidateRejectsForeignSignatureAndGarbage() {
+        String token = Jwts.builder()
+                .subject("guru01")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("another_secret_key_that_is_long_enough_for_hs256!!".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertTrue(provider.parseAndValidate(token).isEmpty());
+        assertTrue(provider.parseAndValidate("not-a-jwt").isEmpty());
+        assertTrue(provider.parseAndValidate("").isEmpty());
+    }
+}
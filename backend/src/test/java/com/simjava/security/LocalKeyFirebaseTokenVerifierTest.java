@@ -0,0 +1,96 @@
+package com.simjava.security;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalKeyFirebaseTokenVerifierTest {
+
+    private static final String PROJECT_ID = "simjava-test";
+    private static final String ISSUER = "https://securetoken.google.com/" + PROJECT_ID;
+
+    @TempDir
+    Path tempDir;
+
+    private KeyPair keyPair;
+    private LocalKeyFirebaseTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+
+        String pem = "-----BEGIN PUBLIC KEY-----\\n"
+                + Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded())
+                + "\\n-----END PUBLIC KEY-----\\n";
+        Path keyFile = tempDir.resolve("keys.json");
+        Files.writeString(keyFile, "{\"key-1\": \"" + pem + "\"}");
+
+        verifier = new LocalKeyFirebaseTokenVerifier(keyFile.toString(), PROJECT_ID, "");
+    }
+
+    @Test
+    void verifyReturnsPrincipalWithAuthoritiesFromRoleClaims() {
+        String token = token("key-1", ISSUER, PROJECT_ID, new Date(System.currentTimeMillis() + 60_000));
+
+        FirebasePrincipal principal = verifier.verify(token);
+
+        assertEquals("uid-1", principal.getUid());
+        assertEquals("guru@sekolah.id", principal.getEmail());
+        assertEquals("Guru Satu", principal.getName());
+        assertEquals(List.of("ROLE_ADMIN"), principal.getAuthorities().stream().map(Object::toString).toList());
+        assertNotNull(principal.getExpiresAt());
+    }
+
+    @Test
+    void verifyRejectsUnknownKeyWrongAudienceAndExpiredToken() {
+        Date future = new Date(System.currentTimeMillis() + 60_000);
+
+        assertThrows(RuntimeException.class, () -> verifier.verify(token("key-2", ISSUER, PROJECT_ID, future)));
+        assertThrows(RuntimeException.class, () -> verifier.verify(token("key-1", ISSUER, "other-project", future)));
+        assertThrows(RuntimeException.class, () -> verifier.verify(token("key-1", "https://evil.example", PROJECT_ID, future)));
+        assertThrows(RuntimeException.class, () -> verifier.verify(
+                token("key-1", ISSUER, PROJECT_ID, new Date(System.currentTimeMillis() - 60_000))));
+    }
+
+    @Test
+    void principalAcceptsClaimsWithNullValues() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", "guru");
+        claims.put("picture", null);
+
+        FirebasePrincipal principal = FirebasePrincipal.of("uid-1", "guru@sekolah.id", "Guru Satu", claims, null);
+
+        assertTrue(principal.getClaims().containsKey("picture"));
+        assertEquals(List.of("ROLE_GURU"), principal.getAuthorities().stream().map(Object::toString).toList());
+    }
+
+    private String token(String kid, String issuer, String audience, Date expiration) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("uid-1")
+                .issuer(issuer)
+                .audience().add(audience).and()
+                .issuedAt(new Date(expiration.getTime() - 3_600_000))
+                .expiration(expiration)
+                .claim("email", "guru@sekolah.id")
+                .claim("name", "Guru Satu")
+                .claim("role", "admin")
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+}
@@ -0,0 +1,108 @@
+package com.simjava.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void allowsBurstUpToLimitThenReportsWaitUntilNextToken() {
+        RateLimiter limiter = new RateLimiter(60, 600, Duration.ofMinutes(10), now::get);
+
+        for (int i = 0; i < 60; i++) {
+            assertEquals(0, limiter.tryAcquire("user:a", false));
+        }
+        long wait = limiter.tryAcquire("user:a", false);
+        assertEquals(SECOND, wait);
+
+        // Principal lain punya bucket sendiri
+        assertEquals(0, limiter.tryAcquire("user:b", false));
+
+        now.addAndGet(SECOND);
+        assertEquals(0, limiter.tryAcquire("user:a", false));
+        assertTrue(limiter.tryAcquire("user:a", false) > 0);
+    }
+
+    @Test
+    void adminGetsHigherLimit() {
+        RateLimiter limiter = new RateLimiter(60, 600, Duration.ofMinutes(10), now::get);
+
+        for (int i = 0; i < 600; i++) {
+            assertEquals(0, limiter.tryAcquire("user:admin", true));
+        }
+        assertTrue(limiter.tryAcquire("user:admin", true) > 0);
+    }
+
+    @Test
+    void idleBucketsAreEvicted() {
+        RateLimiter limiter = new RateLimiter(60, 600, Duration.ofMinutes(10), now::get);
+        limiter.tryAcquire("user:a", false);
+        now.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        limiter.tryAcquire("user:b", false);
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        limiter.evictIdle();
+
+        assertEquals(1, limiter.getBucketCount());
+        // Bucket yang dihapus dibuat ulang dalam keadaan penuh
+        assertEquals(0, limiter.tryAcquire("user:a", false));
+    }
+
+    @Test
+    void admitsExactlyTheLimitUnderContention() throws Exception {
+        int threads = 200;
+        int attemptsPerThread = 1_000;
+        RateLimiter limiter = new RateLimiter(100, 1_000, Duration.ofMinutes(10), now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String ownKey = "user:" + t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryAcquire("user:shared", true) == 0) {
+                            admitted++;
+                        }
+                        limiter.tryAcquire(ownKey, false);
+                    }
+                    return admitted;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            int admitted = 0;
+            for (Future<Integer> result : results) {
+                admitted += result.get(30, TimeUnit.SECONDS);
+            }
+            long elapsed = System.nanoTime() - started;
+
+            assertEquals(1_000, admitted);
+            assertEquals(threads + 1, limiter.getBucketCount());
+            // Waktu CPU per panggilan sekitar 0,25 µs di mesin pengembangan; batas longgar hanya
+            // untuk menangkap regresi besar (mis. lock) tanpa membuat build di CI yang sibuk gagal
+            double nanosPerCall = (double) elapsed * Runtime.getRuntime().availableProcessors()
+                    / (2L * threads * attemptsPerThread);
+            assertTrue(nanosPerCall < 10_000, "Rata-rata " + nanosPerCall + " ns per panggilan");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.simjava.security;
+
+import com.simjava.config.CacheConfig;
+import com.simjava.domain.security.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class UserDetailsCacheTest {
+
+    @Test
+    void cachesAnImmutableSnapshotInsteadOfTheEntity() {
+        User entity = User.builder().name("Guru").email("guru@sekolah.id").password("$2a$10$hash")
+                .userType("guru").role("ROLE_GURU").status("aktif").build();
+        ReflectionTestUtils.setField(entity, "id", 5L);
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername("guru@sekolah.id")).thenReturn(entity);
+        UserDetailsCache cache = new UserDetailsCache(userDetailsService,
+                new ConcurrentMapCacheManager(CacheConfig.USER_DETAILS_CACHE));
+
+        CachedUserDetails first = cache.get("guru@sekolah.id");
+        entity.setRole("ROLE_ADMIN");
+        CachedUserDetails second = cache.get("guru@sekolah.id");
+
+        assertSame(first, second);
+        assertEquals(5L, second.getId());
+        assertEquals("guru@sekolah.id", second.getUsername());
+        assertEquals("", second.getPassword());
+        assertTrue(second.isEnabled());
+        assertEquals(List.of("ROLE_GURU"), second.getAuthorities().stream().map(a -> a.getAuthority()).toList());
+        verify(userDetailsService, times(1)).loadUserByUsername("guru@sekolah.id");
+    }
+}
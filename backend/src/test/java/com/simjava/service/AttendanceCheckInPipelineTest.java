@@ -0,0 +1,159 @@
+package com.simjava.service;
+
+import com.simjava.dto.AttendanceRequest;
+import com.simjava.dto.AttendanceResponse;
+import com.simjava.exception.ServiceUnavailableException;
+import com.simjava.service.schedule.CheckInPolicyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+public class AttendanceCheckInPipelineTest {
+
+    private final AttendanceCheckInWriter writer = Mockito.mock(AttendanceCheckInWriter.class);
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private AttendanceCheckInPipeline pipeline;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    public void testCheckInsAreWrittenInBoundedBatches() throws Exception {
+        acknowledgeEveryBatch();
+        pipeline = new AttendanceCheckInPipeline(writer, Mockito.mock(CheckInPolicyService.class), 2000, 500, Duration.ofMillis(200), Duration.ofMillis(100));
+        pipeline.start();
+
+        List<CompletableFuture<AttendanceResponse>> results = new ArrayList<>();
+        for (long i = 1; i <= 1200; i++) {
+            results.add(pipeline.submit(checkIn(i)));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i + 1L, results.get(i).get(5, TimeUnit.SECONDS).getStudentId());
+        }
+        assertEquals(1200, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 500));
+    }
+
+    @Test
+    public void testPartialBatchIsFlushedAfterInterval() throws Exception {
+        acknowledgeEveryBatch();
+        pipeline = new AttendanceCheckInPipeline(writer, Mockito.mock(CheckInPolicyService.class), 100, 500, Duration.ofMillis(50), Duration.ofMillis(100));
+        pipeline.start();
+
+        CompletableFuture<AttendanceResponse> result = pipeline.submit(checkIn(7L));
+
+        assertEquals(7L, result.get(2, TimeUnit.SECONDS).getStudentId());
+        assertEquals(List.of(1), batchSizes);
+    }
+
+    @Test
+    public void testFullQueueRejectsCheckIn() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(writer).write(anyList());
+        pipeline = new AttendanceCheckInPipeline(writer, Mockito.mock(CheckInPolicyService.class), 2, 1, Duration.ofMillis(10), Duration.ofMillis(10));
+        pipeline.start();
+
+        // Writer memegang paling banyak satu check-in, antrian hanya muat dua
+        int rejected = 0;
+        for (long i = 1; i <= 4; i++) {
+            try {
+                pipeline.submit(checkIn(i));
+            } catch (ServiceUnavailableException e) {
+                rejected++;
+            }
+        }
+        release.countDown();
+
+        assertTrue(rejected >= 1);
+    }
+
+    @Test
+    public void testFailedBatchCompletesCheckInsExceptionally() {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("database unavailable");
+        }).when(writer).write(anyList());
+        pipeline = new AttendanceCheckInPipeline(writer, Mockito.mock(CheckInPolicyService.class), 100, 500, Duration.ofMillis(10), Duration.ofMillis(100));
+        pipeline.start();
+
+        CompletableFuture<AttendanceResponse> result = pipeline.submit(checkIn(1L));
+
+        assertThrows(Exception.class, () -> result.get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBadCheckInOnlyFailsItself() throws Exception {
+        doAnswer(invocation -> {
+            List<AttendanceCheckInPipeline.PendingCheckIn> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(pending -> pending.getRequest().getStudentId() == 13L)) {
+                throw new IllegalStateException("value too long");
+            }
+            for (AttendanceCheckInPipeline.PendingCheckIn pending : batch) {
+                pending.getResult().complete(AttendanceResponse.builder()
+                        .studentId(pending.getRequest().getStudentId())
+                        .build());
+            }
+            return null;
+        }).when(writer).write(anyList());
+        pipeline = new AttendanceCheckInPipeline(writer, Mockito.mock(CheckInPolicyService.class), 100, 50, Duration.ofMillis(100), Duration.ofMillis(100));
+        pipeline.start();
+
+        List<CompletableFuture<AttendanceResponse>> results = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            results.add(pipeline.submit(checkIn(i)));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            CompletableFuture<AttendanceResponse> result = results.get(i);
+            if (i + 1 == 13) {
+                assertThrows(Exception.class, () -> result.get(2, TimeUnit.SECONDS));
+            } else {
+                assertEquals(i + 1L, result.get(2, TimeUnit.SECONDS).getStudentId());
+            }
+        }
+    }
+
+    private void acknowledgeEveryBatch() {
+        doAnswer(invocation -> {
+            List<AttendanceCheckInPipeline.PendingCheckIn> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            for (AttendanceCheckInPipeline.PendingCheckIn pending : batch) {
+                pending.getResult().complete(AttendanceResponse.builder()
+                        .studentId(pending.getRequest().getStudentId())
+                        .build());
+            }
+            return null;
+        }).when(writer).write(anyList());
+    }
+
+    private AttendanceRequest checkIn(Long studentId) {
+        return AttendanceRequest.builder()
+                .studentId(studentId)
+                .date(LocalDate.now())
+                .status("hadir")
+                .timeIn("06:45")
+                .location("-6.2088,106.8456")
+                .type("regular")
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.simjava.service;
+
+import com.simjava.exception.ResourceNotFoundException;
+import com.simjava.repository.AttendanceRecapJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AttendanceRecapServiceTest {
+
+    private AttendanceRecapJdbcRepository recapRepository;
+    private AttendanceRecapService service;
+
+    @BeforeEach
+    void setUp() {
+        recapRepository = mock(AttendanceRecapJdbcRepository.class);
+        service = new AttendanceRecapService(recapRepository);
+        ReflectionTestUtils.setField(service, "maxPageSize", 100);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void requestsDuringARunningRefreshAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger refreshes = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (refreshes.incrementAndGet() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(recapRepository).refresh();
+
+        service.requestRefresh();
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            service.requestRefresh();
+        }
+        release.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (refreshes.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        assertEquals(2, refreshes.get());
+    }
+
+    @Test
+    void classRecapDefaultsToActiveSchoolYearAndCapsPageSize() {
+        when(recapRepository.findActiveSchoolYearId()).thenReturn(Optional.of(3L));
+        when(recapRepository.findByClassRoom(7L, 3L, 100, 0L)).thenReturn(List.of());
+        when(recapRepository.countStudentsInClassRoom(7L)).thenReturn(40L);
+
+        assertEquals(40L, service.getClassRecap(7L, null, PageRequest.of(0, 500)).getTotalElements());
+        verify(recapRepository).findByClassRoom(7L, 3L, 100, 0L);
+    }
+
+    @Test
+    void unknownSchoolYearIsRejected() {
+        when(recapRepository.existsSchoolYear(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> service.getClassRecap(7L, 99L, PageRequest.of(0, 50)));
+    }
+}
@@ -0,0 +1,193 @@
+package com.simjava.service;
+
+import com.simjava.domain.security.AttendanceDailyRollup;
+import com.simjava.dto.AttendanceResponse;
+import com.simjava.event.AttendanceRecordedEvent;
+import com.simjava.repository.AttendanceDailyRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class AttendanceRollupServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 7, 15);
+
+    private final FakeDatabase db = new FakeDatabase();
+    private AttendanceRollupService service;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        service = new AttendanceRollupService(db.repository(), db, mock(AttendanceRecapService.class));
+        ReflectionTestUtils.setField(service, "rebuildChunkDays", 7);
+        ReflectionTestUtils.setField(service, "rebuildParallelism", 1);
+        transactionTemplate = new TransactionTemplate(db);
+    }
+
+    @Test
+    void checkInDuringRebuildWaitsInsteadOfBreakingTheInsert() throws Exception {
+        db.attendances.put(key(TODAY, "hadir"), 3L);
+
+        // Check-in dengan kunci rekap baru tepat di antara DELETE dan INSERT ... SELECT milik rebuild
+        CompletableFuture<Void> checkIn = new CompletableFuture<>();
+        db.betweenDeleteAndInsert = () -> {
+            CompletableFuture.runAsync(() -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    db.onCommit(() -> db.attendances.merge(key(TODAY, "izin"), 1L, Long::sum));
+                    service.onAttendanceRecorded(new AttendanceRecordedEvent(List.of(
+                            AttendanceResponse.builder().date(TODAY).status("izin").type("masuk").build())));
+                });
+            }).whenComplete((ignored, e) -> {
+                if (e != null) {
+                    checkIn.completeExceptionally(e);
+                } else {
+                    checkIn.complete(null);
+                }
+            });
+            try {
+                checkIn.get(300, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException expected) {
+                // Check-in tertahan kunci tanggal sampai rebuild commit
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        Map<String, Object> result = service.rebuild(TODAY.minusDays(6), TODAY);
+        checkIn.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1L, result.get("rows"));
+        assertEquals(3L, db.rollup.get(key(TODAY, "hadir")));
+        assertEquals(1L, db.rollup.get(key(TODAY, "izin")));
+    }
+
+    @Test
+    void checkInsOnOtherDatesAreNotBlocked() throws Exception {
+        db.betweenDeleteAndInsert = () -> {
+            try {
+                CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status ->
+                        service.onAttendanceRecorded(new AttendanceRecordedEvent(List.of(
+                                AttendanceResponse.builder().date(TODAY.plusDays(1)).status("hadir").type("masuk").build())))))
+                        .get(1, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        service.rebuild(TODAY.minusDays(6), TODAY);
+
+        assertEquals(1L, db.rollup.get(key(TODAY.plusDays(1), "hadir")));
+    }
+
+    private static AttendanceDailyRollup.Key key(LocalDate date, String status) {
+        return new AttendanceDailyRollup.Key(date, status, "masuk");
+    }
+
+    /**
+     * Pengganti PostgreSQL: tabel absensi dan rekap di memori, kunci advisory per tanggal yang
+     * dilepas saat transaksi selesai, dan primary key rekap yang ditegakkan oleh INSERT ... SELECT.
+     */
+    private static class FakeDatabase implements PlatformTransactionManager {
+        final Map<AttendanceDailyRollup.Key, Long> attendances = new ConcurrentHashMap<>();
+        final Map<AttendanceDailyRollup.Key, Long> rollup = new ConcurrentHashMap<>();
+        final Map<Integer, ReentrantReadWriteLock> locks = new ConcurrentHashMap<>();
+        final ThreadLocal<List<Lock>> heldLocks = ThreadLocal.withInitial(ArrayList::new);
+        final ThreadLocal<List<Runnable>> commitActions = ThreadLocal.withInitial(ArrayList::new);
+        volatile Runnable betweenDeleteAndInsert = () -> { };
+
+        AttendanceDailyRollupRepository repository() {
+            AttendanceDailyRollupRepository repository = mock(AttendanceDailyRollupRepository.class);
+            doAnswer(invocation -> lock(invocation.getArgument(0), false)).when(repository).lockDateShared(anyInt());
+            doAnswer(invocation -> lock(invocation.getArgument(0), true)).when(repository).lockDateExclusive(anyInt());
+            doAnswer(invocation -> {
+                AttendanceDailyRollup.Key key = new AttendanceDailyRollup.Key(
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+                rollup.merge(key, invocation.getArgument(3), Long::sum);
+                return 1;
+            }).when(repository).increment(any(), anyString(), anyString(), anyLong());
+            doAnswer(invocation -> {
+                LocalDate start = invocation.getArgument(0);
+                LocalDate end = invocation.getArgument(1);
+                int before = rollup.size();
+                rollup.keySet().removeIf(key -> !key.getDate().isBefore(start) && !key.getDate().isAfter(end));
+                return before - rollup.size();
+            }).when(repository).deleteByDateBetween(any(), any());
+            doAnswer(invocation -> {
+                betweenDeleteAndInsert.run();
+                LocalDate start = invocation.getArgument(0);
+                LocalDate end = invocation.getArgument(1);
+                int rows = 0;
+                for (Map.Entry<AttendanceDailyRollup.Key, Long> entry : attendances.entrySet()) {
+                    LocalDate date = entry.getKey().getDate();
+                    if (!date.isBefore(start) && !date.isAfter(end)) {
+                        if (rollup.putIfAbsent(entry.getKey(), entry.getValue()) != null) {
+                            throw new DuplicateKeyException("duplicate key " + entry.getKey());
+                        }
+                        rows++;
+                    }
+                }
+                return rows;
+            }).when(repository).insertFromAttendances(any(), any());
+            return repository;
+        }
+
+        void onCommit(Runnable action) {
+            commitActions.get().add(action);
+        }
+
+        private Integer lock(int day, boolean exclusive) {
+            ReentrantReadWriteLock lock = locks.computeIfAbsent(day, d -> new ReentrantReadWriteLock());
+            Lock held = exclusive ? lock.writeLock() : lock.readLock();
+            held.lock();
+            heldLocks.get().add(held);
+            return 1;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commitActions.get().forEach(Runnable::run);
+            end();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            end();
+        }
+
+        private void end() {
+            commitActions.remove();
+            heldLocks.get().forEach(Lock::unlock);
+            heldLocks.remove();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.simjava.service;
+
+import com.simjava.repository.AttendanceDailyRollupRepository;
+import com.simjava.repository.kbm.TeachingActivityAttendanceRepository;
+import com.simjava.repository.kbm.TeachingActivityRepository;
+import com.simjava.repository.projection.StatusCountView;
+import com.simjava.repository.projection.TeachingActivityGroupCountView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DashboardServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 7, 1);
+    private static final LocalDate END = LocalDate.of(2024, 7, 31);
+
+    private TeachingActivityRepository teachingActivityRepository;
+    private TeachingActivityAttendanceRepository teachingActivityAttendanceRepository;
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        teachingActivityRepository = mock(TeachingActivityRepository.class);
+        teachingActivityAttendanceRepository = mock(TeachingActivityAttendanceRepository.class);
+        dashboardService = new DashboardServiceImpl(mock(StudentStatisticsCounter.class),
+                mock(AttendanceDailyRollupRepository.class), teachingActivityRepository,
+                teachingActivityAttendanceRepository, new ConcurrentMapCacheManager(),
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(dashboardService, "sectionThreads", 1);
+        dashboardService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void groupingSetRowsMapToTheExistingStatisticsKeys() {
+        List<TeachingActivityGroupCountView> groups = List.of(
+                group("SUBJECT", "Matematika", 3, null),
+                group("SUBJECT", "Fisika", 1, null),
+                group("DAY_OF_WEEK", "1", 2, null),
+                group("DAY_OF_WEEK", "5", 2, null),
+                group("TEACHER", "7", 4, null),
+                group("CLASS", "10", 1, null),
+                group("CLASS", "11", 3, null),
+                group("TOTAL", null, 4, 82.5));
+        List<StatusCountView> statuses = List.of(status("Hadir", 30), status("Izin", 10));
+        when(teachingActivityRepository.countGroupsByTanggalBetween(START, END)).thenReturn(groups);
+        when(teachingActivityAttendanceRepository.countByActivityTanggalBetween(START, END)).thenReturn(statuses);
+
+        Map<String, Object> statistics = dashboardService.getTeachingActivityStatistics(START, END);
+
+        assertEquals(Set.of("totalActivities", "activitiesBySubject", "activitiesByDayOfWeek", "activitiesByTeacher",
+                "averageDurationMinutes", "totalAttendances", "attendanceByStatus", "attendanceRate",
+                "activitiesByClass"), statistics.keySet());
+        assertEquals(4L, statistics.get("totalActivities"));
+        assertEquals(Map.of("Matematika", 3L, "Fisika", 1L), statistics.get("activitiesBySubject"));
+        assertEquals(Map.of("MONDAY", 2L, "FRIDAY", 2L), statistics.get("activitiesByDayOfWeek"));
+        assertEquals(Map.of(7L, 4L), statistics.get("activitiesByTeacher"));
+        assertEquals(Map.of(10L, 1L, 11L, 3L), statistics.get("activitiesByClass"));
+        assertEquals(82.5, statistics.get("averageDurationMinutes"));
+        assertEquals(40L, statistics.get("totalAttendances"));
+        assertEquals(75.0, statistics.get("attendanceRate"));
+    }
+
+    @Test
+    void emptyRangeHasZeroAverage() {
+        List<TeachingActivityGroupCountView> groups = List.of(group("TOTAL", null, 0, null));
+        when(teachingActivityRepository.countGroupsByTanggalBetween(START, END)).thenReturn(groups);
+        when(teachingActivityAttendanceRepository.countByActivityTanggalBetween(START, END)).thenReturn(List.of());
+
+        Map<String, Object> statistics = dashboardService.getTeachingActivityStatistics(START, END);
+
+        assertEquals(0L, statistics.get("totalActivities"));
+        assertEquals(0.0, statistics.get("averageDurationMinutes"));
+        assertEquals(Map.of(), statistics.get("activitiesBySubject"));
+    }
+
+    private static TeachingActivityGroupCountView group(String dimension, String key, long total, Double average) {
+        TeachingActivityGroupCountView view = mock(TeachingActivityGroupCountView.class);
+        when(view.getDimension()).thenReturn(dimension);
+        when(view.getGroupKey()).thenReturn(key);
+        when(view.getTotal()).thenReturn(total);
+        when(view.getAverageDurationMinutes()).thenReturn(average);
+        return view;
+    }
+
+    private static StatusCountView status(String status, long total) {
+        StatusCountView view = mock(StatusCountView.class);
+        when(view.getStatus()).thenReturn(status);
+        when(view.getTotal()).thenReturn(total);
+        return view;
+    }
+}
@@ -0,0 +1,108 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simjava.repository.JobJdbcRepository;
+import com.simjava.repository.JobJdbcRepository.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class JobWorkerTest {
+
+    private static final String PAYLOAD = "{\"type\":\"test\",\"data\":{\"value\":42}}";
+
+    private JobJdbcRepository repository;
+    private AtomicReference<RuntimeException> failure;
+    private AtomicReference<JsonNode> handled;
+    private JobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(JobJdbcRepository.class);
+        failure = new AtomicReference<>();
+        handled = new AtomicReference<>();
+        JobHandler handler = new JobHandler() {
+            @Override
+            public String getType() {
+                return "test";
+            }
+
+            @Override
+            public void handle(JsonNode data) {
+                handled.set(data);
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+            }
+        };
+        worker = new JobWorker(repository, new ObjectMapper(), List.of(handler), List.of("default"),
+                1, 10, 3, Duration.ofSeconds(10), Duration.ofSeconds(25), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.stop();
+    }
+
+    @Test
+    void successfulJobIsDeleted() {
+        worker.process(new Job(1L, "default", PAYLOAD, 1));
+
+        assertEquals(42, handled.get().path("value").asInt());
+        verify(repository).delete(1L);
+        verify(repository, never()).release(anyLong(), anyLong());
+        verify(repository, never()).fail(anyLong(), anyString());
+    }
+
+    @Test
+    void failedJobIsReleasedWithBackoff() {
+        failure.set(new IllegalStateException("FCM unavailable"));
+        long before = Instant.now().getEpochSecond();
+
+        worker.process(new Job(2L, "default", PAYLOAD, 2));
+
+        // attempt 2 -> 10s * 2
+        verify(repository).release(eq(2L), longThat(at -> at >= before + 20 && at <= before + 21));
+        verify(repository, never()).delete(anyLong());
+    }
+
+    @Test
+    void jobIsDeadLetteredAfterMaxAttempts() {
+        failure.set(new IllegalStateException("FCM unavailable"));
+
+        worker.process(new Job(3L, "default", PAYLOAD, 3));
+
+        verify(repository).fail(eq(3L), contains("FCM unavailable"));
+        verify(repository, never()).release(anyLong(), anyLong());
+    }
+
+    @Test
+    void unknownTypeAndUnreadablePayloadAreDeadLetteredImmediately() {
+        worker.process(new Job(4L, "default", "{\"type\":\"other\",\"data\":{}}", 1));
+        worker.process(new Job(5L, "default", "not json", 1));
+
+        verify(repository).fail(eq(4L), contains("other"));
+        verify(repository).fail(eq(5L), anyString());
+        assertNull(handled.get());
+    }
+
+    @Test
+    void backoffIsExponentialAndCapped() {
+        assertEquals(Duration.ofSeconds(10), worker.backoffFor(1));
+        assertEquals(Duration.ofSeconds(20), worker.backoffFor(2));
+        assertEquals(Duration.ofSeconds(25), worker.backoffFor(3));
+        assertEquals(Duration.ofSeconds(25), worker.backoffFor(30));
+    }
+}
@@ -0,0 +1,123 @@
+package com.simjava.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LiveUpdateBusTest {
+
+    private LiveUpdateBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LiveUpdateBus(new SimpleMeterRegistry(), 4, Duration.ofMinutes(1), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdown();
+    }
+
+    @Test
+    void broadcastReachesEverySubscriberAndUserEventsOnlyTheirOwner() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(null);
+        RecordingEmitter second = new RecordingEmitter(null);
+        bus.register(1L, first);
+        bus.register(2L, second);
+
+        bus.publish("attendance", "delta");
+        bus.publishToUser(2L, "notification", "inbox");
+
+        assertTrue(first.awaitEvents(1));
+        assertTrue(second.awaitEvents(2));
+        Thread.sleep(50);
+        assertEquals(1, first.events.size());
+        assertEquals(2, second.events.size());
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWithoutBlockingOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        bus.register(1L, slow);
+        bus.register(2L, fast);
+
+        // Subscriber lambat tertahan di send pertama; buffer 4 penuh setelah beberapa event,
+        // sementara subscriber cepat menerima setiap event
+        for (int i = 0; i < 10; i++) {
+            bus.publish("attendance", i);
+            assertTrue(fast.awaitEvents(i + 1));
+        }
+
+        assertTrue(slow.completed);
+        assertEquals(1, bus.getSubscriberCount());
+        release.countDown();
+    }
+
+    @Test
+    void failingSubscriberIsRemoved() throws Exception {
+        SseEmitter broken = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        bus.register(1L, broken);
+
+        bus.publish("attendance", "delta");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (bus.getSubscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, bus.getSubscriberCount());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final List<Object> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch blockUntil;
+        volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch blockUntil) {
+            this.blockUntil = blockUntil;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (blockUntil != null) {
+                try {
+                    blockUntil.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(builder);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        boolean awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return events.size() >= count;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simjava.dto.NotificationRequest;
+import com.simjava.service.push.PushFanOutResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class NotificationDispatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JobQueue jobQueue;
+    private NotificationService notificationService;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        jobQueue = mock(JobQueue.class);
+        notificationService = mock(NotificationService.class);
+        dispatcher = new NotificationDispatcher(jobQueue, notificationService, objectMapper, 500, Duration.ofSeconds(10));
+    }
+
+    @Test
+    void jobCompletesWhenOnlyInvalidTokensRemain() throws Exception {
+        when(notificationService.sendNotificationToMultipleDevices(anyList(), any(), any(), any()))
+                .thenReturn(new PushFanOutResult(0, List.of(), List.of("a", "b"), 0));
+
+        dispatcher.handle(payload(List.of("a", "b")));
+
+        verifyNoInteractions(jobQueue);
+    }
+
+    @Test
+    void partialFailureReEnqueuesOnlyFailedTokens() throws Exception {
+        when(notificationService.sendNotificationToMultipleDevices(anyList(), any(), any(), any()))
+                .thenReturn(new PushFanOutResult(1, List.of("c"), List.of("b"), 0));
+
+        dispatcher.handle(payload(List.of("a", "b", "c")));
+
+        ArgumentCaptor<NotificationRequest> retry = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(jobQueue).later(eq(NotificationDispatcher.QUEUE), eq(NotificationDispatcher.JOB_TYPE),
+                retry.capture(), eq(Duration.ofSeconds(10)));
+        assertEquals(List.of("c"), retry.getValue().getTokens());
+    }
+
+    @Test
+    void jobIsRetriedWhenNoTokenMadeProgress() {
+        when(notificationService.sendNotificationToMultipleDevices(anyList(), any(), any(), any()))
+                .thenReturn(new PushFanOutResult(0, List.of("a", "b"), List.of(), 0));
+
+        assertThrows(IllegalStateException.class, () -> dispatcher.handle(payload(List.of("a", "b"))));
+        verifyNoInteractions(jobQueue);
+    }
+
+    private JsonNode payload(List<String> tokens) {
+        return objectMapper.valueToTree(new NotificationRequest(null, tokens, null, "Judul", "Isi", null));
+    }
+}
@@ -0,0 +1,89 @@
+package com.simjava.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RowExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void csvWritesHeaderAndQuotesSpecialCharacters() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RowExportWriter writer = new RowExportWriter(ExportFormat.CSV, List.of("id", "nama", "catatan"), out, objectMapper)) {
+            writer.writeRow(1L, "Budi, S.", "izin \"sakit\"");
+            writer.writeRow(2L, "Siti", null);
+        }
+
+        assertEquals("id,nama,catatan\r\n"
+                + "1,\"Budi, S.\",\"izin \"\"sakit\"\"\"\r\n"
+                + "2,Siti,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RowExportWriter writer = new RowExportWriter(ExportFormat.NDJSON, List.of("id", "date", "status"), out, objectMapper)) {
+            writer.writeRow(1L, LocalDate.of(2024, 7, 15), "hadir");
+            writer.writeRow(2L, LocalDate.of(2024, 7, 16), null);
+        }
+
+        assertEquals("{\"id\":1,\"date\":\"2024-07-15\",\"status\":\"hadir\"}\n"
+                + "{\"id\":2,\"date\":\"2024-07-16\",\"status\":null}\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamsManyRowsWithoutRetainingThem() throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+        long heapBefore = usedHeap();
+        try (RowExportWriter writer = new RowExportWriter(ExportFormat.NDJSON, List.of("id", "nis", "status"), out, objectMapper)) {
+            for (long i = 0; i < 1_000_000; i++) {
+                writer.writeRow(i, "NIS" + i, "hadir");
+            }
+        }
+
+        assertTrue(out.count > 30_000_000L);
+        // Hanya close() yang mem-flush ke stream servlet
+        assertEquals(1, out.flushes);
+        // Setelah GC, heap yang dipakai tidak tumbuh sebanding dengan jumlah baris (~35 MB output)
+        assertTrue(usedHeap() - heapBefore < 32L * 1024 * 1024);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long count;
+        int flushes;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.simjava.service;
+
+import com.simjava.event.StudentChangedEvent;
+import com.simjava.repository.StudentRepository;
+import com.simjava.repository.projection.StudentGroupCountView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class StudentStatisticsCounterTest {
+
+    private StudentRepository studentRepository;
+    private StudentStatisticsCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        when(studentRepository.countByGroup()).thenReturn(List.of(
+                row('L', 1L, "Islam", 3),
+                row('P', 1L, "Islam", 2),
+                row('P', 2L, "Kristen", 1)));
+        counter = new StudentStatisticsCounter(studentRepository);
+    }
+
+    @Test
+    void statisticsAreLoadedOnceFromGroupedCounts() {
+        Map<String, Object> statistics = counter.getStatistics();
+        counter.getStatistics();
+
+        assertEquals(6L, statistics.get("totalStudents"));
+        assertEquals(Map.of('L', 3L, 'P', 3L), statistics.get("studentsByGender"));
+        assertEquals(Map.of(1L, 5L, 2L, 1L), statistics.get("studentsByClass"));
+        assertEquals(Map.of("Islam", 5L, "Kristen", 1L), statistics.get("studentsByReligion"));
+        verify(studentRepository, times(1)).countByGroup();
+    }
+
+    @Test
+    void changesAdjustCountersWithoutQuerying() {
+        counter.getStatistics();
+
+        counter.onStudentChanged(new StudentChangedEvent(null, group('L', 2L, "Hindu")));
+        counter.onStudentChanged(new StudentChangedEvent(group('P', 2L, "Kristen"), group('P', 1L, "Kristen")));
+        counter.onStudentChanged(new StudentChangedEvent(group('L', 1L, "Islam"), null));
+        Map<String, Object> statistics = counter.getStatistics();
+
+        assertEquals(6L, statistics.get("totalStudents"));
+        assertEquals(Map.of('L', 3L, 'P', 3L), statistics.get("studentsByGender"));
+        assertEquals(Map.of(1L, 5L, 2L, 1L), statistics.get("studentsByClass"));
+        assertEquals(Map.of("Islam", 4L, "Kristen", 1L, "Hindu", 1L), statistics.get("studentsByReligion"));
+        verify(studentRepository, times(1)).countByGroup();
+    }
+
+    @Test
+    void resyncIsDiscardedWhenAChangeLandsDuringTheQuery() {
+        counter.getStatistics();
+        // Query resync "melihat" data lama, sementara satu siswa baru di-commit saat query berjalan
+        when(studentRepository.countByGroup()).thenAnswer(invocation -> {
+            counter.onStudentChanged(new StudentChangedEvent(null, group('L', 1L, "Islam")));
+            return List.of(row('L', 1L, "Islam", 3), row('P', 1L, "Islam", 2), row('P', 2L, "Kristen", 1));
+        });
+
+        counter.scheduledResync();
+
+        assertEquals(7L, counter.getStatistics().get("totalStudents"));
+    }
+
+    private static StudentChangedEvent.Group group(char jenisKelamin, Long classRoomId, String agama) {
+        return new StudentChangedEvent.Group(jenisKelamin, classRoomId, agama);
+    }
+
+    private static StudentGroupCountView row(char jenisKelamin, Long classRoomId, String agama, long total) {
+        return new StudentGroupCountView() {
+            public Character getJenisKelamin() { return jenisKelamin; }
+            public Long getClassRoomId() { return classRoomId; }
+            public String getAgama() { return agama; }
+            public Long getTotal() { return total; }
+        };
+    }
+}
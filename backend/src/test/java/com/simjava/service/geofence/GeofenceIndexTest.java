@@ -0,0 +1,102 @@
+package com.simjava.service.geofence;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeofenceIndexTest {
+
+    @Test
+    void haversineMatchesKnownDistance() {
+        // Monas - Bundaran HI, sekitar 2.2 km
+        double distance = GeofenceIndex.distanceMeters(-6.1754, 106.8272, -6.1950, 106.8230);
+
+        assertEquals(2_230, distance, 50);
+    }
+
+    @Test
+    void pointInsideRadiusMatchesNearestOffice() {
+        GeofenceIndex index = GeofenceIndex.build(List.of(
+                new GeofenceIndex.Fence(1, -6.2088, 106.8456, 100),
+                new GeofenceIndex.Fence(2, -6.2090, 106.8458, 100),
+                new GeofenceIndex.Fence(3, -7.2575, 112.7521, 200)));
+
+        assertEquals(2, index.findContaining(-6.2091, 106.8459));
+        assertEquals(3, index.findContaining(-7.2580, 112.7525));
+        assertEquals(GeofenceIndex.NO_MATCH, index.findContaining(-6.2200, 106.8456));
+        assertTrue(index.contains(1, -6.2091, 106.8459));
+        assertFalse(index.contains(3, -6.2091, 106.8459));
+        assertFalse(index.contains(99, -6.2091, 106.8459));
+    }
+
+    @Test
+    void emptyIndexNeverMatches() {
+        assertEquals(GeofenceIndex.NO_MATCH, GeofenceIndex.EMPTY.findContaining(-6.2088, 106.8456));
+    }
+
+    /**
+     * 10k kantor (sekolah + perusahaan PKL) tersebar di Jawa: hasil indeks harus sama dengan
+     * pencarian brute force, dan pencarian tidak mengalokasikan memori.
+     */
+    @Test
+    void tenThousandOfficesMatchBruteForceWithoutAllocating() {
+        Random random = new Random(42);
+        List<GeofenceIndex.Fence> fences = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            fences.add(new GeofenceIndex.Fence(i + 1L,
+                    -8.5 + random.nextDouble() * 2.5,
+                    105.0 + random.nextDouble() * 9.0,
+                    50 + random.nextInt(2_000)));
+        }
+        GeofenceIndex index = GeofenceIndex.build(fences);
+
+        double[][] points = new double[20_000][];
+        for (int i = 0; i < points.length; i++) {
+            GeofenceIndex.Fence near = fences.get(random.nextInt(fences.size()));
+            points[i] = new double[]{
+                    near.getLatitude() + (random.nextDouble() - 0.5) * 0.04,
+                    near.getLongitude() + (random.nextDouble() - 0.5) * 0.04};
+        }
+
+        int matches = 0;
+        for (double[] point : points) {
+            long expected = bruteForce(fences, point[0], point[1]);
+            assertEquals(expected, index.findContaining(point[0], point[1]));
+            if (expected != GeofenceIndex.NO_MATCH) {
+                matches++;
+            }
+        }
+        assertTrue(matches > 1_000, "test points should hit offices");
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long checksum = 0;
+        for (int round = 0; round < 5; round++) {
+            for (double[] point : points) {
+                checksum += index.findContaining(point[0], point[1]);
+            }
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        // 100k pencarian; satu objek kecil per pencarian saja sudah > 1.6 MB
+        assertTrue(allocated < 512 * 1024, "allocated " + allocated + " bytes, checksum " + checksum);
+    }
+
+    private static long bruteForce(List<GeofenceIndex.Fence> fences, double latitude, double longitude) {
+        long best = GeofenceIndex.NO_MATCH;
+        double bestDistance = Double.MAX_VALUE;
+        for (GeofenceIndex.Fence fence : fences) {
+            double distance = GeofenceIndex.distanceMeters(latitude, longitude, fence.getLatitude(), fence.getLongitude());
+            if (distance <= fence.getRadiusMeters() && distance < bestDistance) {
+                best = fence.getId();
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,77 @@
+package com.simjava.service.geofence;
+
+import com.simjava.domain.schedule.Office;
+import com.simjava.exception.BadRequestException;
+import com.simjava.exception.ServiceUnavailableException;
+import com.simjava.repository.OfficeRepository;
+import com.simjava.repository.projection.ChangeSignatureView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GeofenceServiceTest {
+
+    private OfficeRepository officeRepository;
+    private GeofenceService geofenceService;
+
+    @BeforeEach
+    void setUp() {
+        officeRepository = mock(OfficeRepository.class);
+        ChangeSignatureView signature = mock(ChangeSignatureView.class);
+        when(signature.getTotal()).thenReturn(1L);
+        when(signature.getLastUpdatedAt()).thenReturn(LocalDateTime.of(2024, 1, 15, 7, 0));
+        when(officeRepository.findSignature()).thenReturn(signature);
+
+        geofenceService = new GeofenceService(officeRepository);
+        ReflectionTestUtils.setField(geofenceService, "defaultRadius", 100);
+        ReflectionTestUtils.setField(geofenceService, "enabled", true);
+    }
+
+    @Test
+    void checkInIsRejectedUntilOfficesHaveLoaded() {
+        when(officeRepository.findByStatusTrue()).thenThrow(new IllegalStateException("db down"));
+
+        geofenceService.loadOnStartup();
+
+        assertThrows(ServiceUnavailableException.class, () -> geofenceService.validateCheckIn("-6.2088,106.8456"));
+        assertThrows(ServiceUnavailableException.class, () -> geofenceService.isActive());
+    }
+
+    @Test
+    void loadedIndexValidatesLocation() {
+        Office office = new Office();
+        ReflectionTestUtils.setField(office, "id", 1L);
+        office.setLatitude(-6.2088);
+        office.setLongitude(106.8456);
+        when(officeRepository.findByStatusTrue()).thenReturn(List.of(office));
+
+        geofenceService.loadOnStartup();
+
+        assertEquals(1L, geofenceService.validateCheckIn("-6.2088,106.8456"));
+        assertThrows(BadRequestException.class, () -> geofenceService.validateCheckIn("-7.2575,112.7521"));
+    }
+
+    @Test
+    void noActiveOfficesAcceptsAnyLocationOnceLoaded() {
+        when(officeRepository.findByStatusTrue()).thenReturn(List.of());
+
+        geofenceService.loadOnStartup();
+
+        assertEquals(GeofenceIndex.NO_MATCH, geofenceService.validateCheckIn("-7.2575,112.7521"));
+        assertFalse(geofenceService.isActive());
+    }
+
+    @Test
+    void disabledGeofenceNeverRejects() {
+        ReflectionTestUtils.setField(geofenceService, "enabled", false);
+
+        assertEquals(GeofenceIndex.NO_MATCH, geofenceService.validateCheckIn("-7.2575,112.7521"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.simjava.service.impl;
+
+import com.simjava.domain.security.User;
+import com.simjava.dto.UserRequest;
+import com.simjava.repository.UserRepository;
+import com.simjava.security.SecurityService;
+import com.simjava.security.UserDetailsCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UserServiceImplTest {
+
+    private UserRepository userRepository;
+    private UserServiceImpl userService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+        userService = new UserServiceImpl(userRepository, mock(PasswordEncoder.class), userDetailsCache,
+                new SecurityService(userDetailsCache));
+
+        user = User.builder().name("Siswa").email("siswa@sekolah.id").userType("siswa")
+                .role("ROLE_USER").status("aktif").classRoomId(7L).build();
+        when(userRepository.findById(42L)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void nonAdminCannotRaiseOwnRole() {
+        authenticateAs("ROLE_USER");
+
+        userService.updateUser(42L, request());
+
+        assertEquals("Siswa Baru", user.getName());
+        assertEquals("ROLE_USER", user.getRole());
+        assertEquals("siswa", user.getUserType());
+        assertEquals("aktif", user.getStatus());
+        assertEquals(7L, user.getClassRoomId());
+    }
+
+    @Test
+    void adminCanChangeRole() {
+        authenticateAs("ROLE_ADMIN");
+
+        userService.updateUser(42L, request());
+
+        assertEquals("ROLE_ADMIN", user.getRole());
+        assertEquals("admin", user.getUserType());
+        assertEquals("nonaktif", user.getStatus());
+        assertEquals(9L, user.getClassRoomId());
+    }
+
+    private void authenticateAs(String authority) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "siswa@sekolah.id", null, List.of(new SimpleGrantedAuthority(authority))));
+    }
+
+    private UserRequest request() {
+        return UserRequest.builder().name("Siswa Baru").email("siswa@sekolah.id").userType("admin")
+                .role("ROLE_ADMIN").status("nonaktif").classRoomId(9L).build();
+    }
+}
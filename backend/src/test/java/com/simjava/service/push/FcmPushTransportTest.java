@@ -0,0 +1,25 @@
+package com.simjava.service.push;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FcmPushTransportTest {
+
+    @Test
+    void onlyUnregisteredMarksTokenInvalid() {
+        assertEquals(PushStatus.INVALID_TOKEN, FcmPushTransport.statusOf(MessagingErrorCode.UNREGISTERED));
+    }
+
+    @Test
+    void invalidArgumentRejectsMessageWithoutTouchingToken() {
+        assertEquals(PushStatus.REJECTED, FcmPushTransport.statusOf(MessagingErrorCode.INVALID_ARGUMENT));
+    }
+
+    @Test
+    void otherErrorsAreRetried() {
+        assertEquals(PushStatus.FAILED, FcmPushTransport.statusOf(MessagingErrorCode.UNAVAILABLE));
+        assertEquals(PushStatus.FAILED, FcmPushTransport.statusOf(MessagingErrorCode.QUOTA_EXCEEDED));
+    }
+}
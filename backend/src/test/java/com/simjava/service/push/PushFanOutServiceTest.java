@@ -0,0 +1,149 @@
+package com.simjava.service.push;
+
+import com.simjava.event.InvalidPushTokensEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PushFanOutServiceTest {
+
+    private FakeTransport transport;
+    private List<Object> events;
+    private SimpleMeterRegistry meterRegistry;
+    private PushFanOutService service;
+
+    @BeforeEach
+    void setUp() {
+        transport = new FakeTransport();
+        events = new CopyOnWriteArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        service = new PushFanOutService(transport, events::add, meterRegistry, 500, 4, Duration.ofDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void chunksTokensAtChunkSizeAndAggregatesResults() {
+        List<String> tokens = tokens(1_201);
+
+        PushFanOutResult result = service.send(tokens, "Pengumuman", "Libur", Map.of());
+
+        assertEquals(1_201, result.getSent());
+        assertTrue(result.getFailedTokens().isEmpty());
+        assertEquals(List.of(500, 500, 201), transport.chunkSizes.stream().sorted(Collections.reverseOrder()).toList());
+        assertTrue(transport.maxConcurrent.get() <= 4);
+        assertEquals(1_201.0, meterRegistry.counter("notification.push.tokens", "status", "sent").count());
+    }
+
+    @Test
+    void duplicateTokensAreSentOnce() {
+        PushFanOutResult result = service.send(List.of("a", "b", "a"), "t", "b", null);
+
+        assertEquals(2, result.getSent());
+        assertEquals(1, transport.chunkSizes.size());
+    }
+
+    @Test
+    void invalidTokensArePublishedAndSkippedNextTime() {
+        transport.invalid.add("token-3");
+        transport.failing.add("token-4");
+
+        PushFanOutResult first = service.send(tokens(6), "t", "b", null);
+
+        assertEquals(4, first.getSent());
+        assertEquals(List.of("token-3"), first.getInvalidTokens());
+        assertEquals(List.of("token-4"), first.getFailedTokens());
+        assertEquals(1, events.size());
+        assertEquals(List.of("token-3"), ((InvalidPushTokensEvent) events.get(0)).getTokens());
+
+        transport.chunkSizes.clear();
+        PushFanOutResult second = service.send(tokens(6), "t", "b", null);
+
+        assertEquals(List.of(5), transport.chunkSizes);
+        assertEquals(List.of("token-3"), second.getInvalidTokens());
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void rejectedMessageNeitherRetriesNorInvalidatesTokens() {
+        transport.rejected.addAll(tokens(3));
+
+        PushFanOutResult first = service.send(tokens(3), "t", "b", null);
+
+        assertEquals(0, first.getSent());
+        assertEquals(3, first.getRejected());
+        assertTrue(first.getFailedTokens().isEmpty());
+        assertTrue(first.getInvalidTokens().isEmpty());
+        assertTrue(events.isEmpty());
+
+        transport.rejected.clear();
+        PushFanOutResult second = service.send(tokens(3), "t", "b", null);
+
+        assertEquals(3, second.getSent());
+    }
+
+    @Test
+    void transportErrorMarksWholeChunkFailed() {
+        transport.throwOnSend = true;
+
+        PushFanOutResult result = service.send(tokens(3), "t", "b", null);
+
+        assertEquals(0, result.getSent());
+        assertEquals(tokens(3), result.getFailedTokens());
+    }
+
+    private static List<String> tokens(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "token-" + i).collect(Collectors.toList());
+    }
+
+    /**
+     * FCM pengganti: mencatat ukuran chunk dan konkurensi, menolak token tertentu.
+     */
+    private static class FakeTransport implements PushTransport {
+        final List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+        final List<String> invalid = new ArrayList<>();
+        final List<String> failing = new ArrayList<>();
+        final List<String> rejected = new ArrayList<>();
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        volatile boolean throwOnSend;
+
+        @Override
+        public List<PushStatus> sendMulticast(List<String> tokens, String title, String body, Map<String, String> data) {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                if (throwOnSend) {
+                    throw new IllegalStateException("FCM unavailable");
+                }
+                chunkSizes.add(tokens.size());
+                Thread.sleep(10);
+                return tokens.stream()
+                        .map(t -> invalid.contains(t) ? PushStatus.INVALID_TOKEN
+                                : rejected.contains(t) ? PushStatus.REJECTED
+                                : failing.contains(t) ? PushStatus.FAILED : PushStatus.SENT)
+                        .collect(Collectors.toList());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
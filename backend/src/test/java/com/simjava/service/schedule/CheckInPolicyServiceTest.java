@@ -0,0 +1,176 @@
+package com.simjava.service.schedule;
+
+import com.simjava.dto.AttendanceRequest;
+import com.simjava.exception.BadRequestException;
+import com.simjava.exception.ServiceUnavailableException;
+import com.simjava.repository.OfficeRepository;
+import com.simjava.repository.ScheduleRepository;
+import com.simjava.repository.ShiftRepository;
+import com.simjava.repository.StudentRepository;
+import com.simjava.repository.projection.ChangeSignatureView;
+import com.simjava.repository.projection.ResolvedScheduleView;
+import com.simjava.service.geofence.GeoPoint;
+import com.simjava.service.geofence.GeofenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class CheckInPolicyServiceTest {
+
+    private ScheduleRepository scheduleRepository;
+    private ShiftRepository shiftRepository;
+    private OfficeRepository officeRepository;
+    private StudentRepository studentRepository;
+    private GeofenceService geofenceService;
+    private ScheduleSnapshotService snapshotService;
+    private CheckInPolicyService policy;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        shiftRepository = mock(ShiftRepository.class);
+        officeRepository = mock(OfficeRepository.class);
+        studentRepository = mock(StudentRepository.class);
+        geofenceService = mock(GeofenceService.class);
+        when(geofenceService.isActive()).thenReturn(true);
+
+        ChangeSignatureView signature = signature(1, LocalDateTime.of(2024, 1, 15, 7, 0));
+        when(scheduleRepository.findSignature()).thenReturn(signature);
+        when(shiftRepository.findSignature()).thenReturn(signature);
+        when(officeRepository.findSignature()).thenReturn(signature);
+        when(studentRepository.findSignature()).thenReturn(signature);
+        List<ResolvedScheduleView> schedules = List.of(
+                view(10L, 100L, false, false),
+                view(11L, 101L, true, false),
+                view(12L, 102L, false, true),
+                view(13L, null, false, false));
+        when(scheduleRepository.findAllResolved()).thenReturn(schedules);
+
+        snapshotService = new ScheduleSnapshotService(scheduleRepository, shiftRepository, officeRepository, studentRepository);
+        snapshotService.refreshIfChanged();
+        policy = new CheckInPolicyService(snapshotService, geofenceService);
+    }
+
+    @Test
+    void snapshotIsKeyedByUserAndStudentAndReloadsOnlyWhenSignatureChanges() {
+        assertEquals(100L, snapshotService.findByUserId(10L).orElseThrow().getStudentId());
+        assertEquals(11L, snapshotService.findByStudentId(101L).orElseThrow().getUserId());
+        assertTrue(snapshotService.findByUserId(13L).isPresent());
+        assertTrue(snapshotService.findByStudentId(999L).isEmpty());
+
+        snapshotService.refreshIfChanged();
+        verify(scheduleRepository, times(1)).findAllResolved();
+
+        ChangeSignatureView changed = signature(2, LocalDateTime.of(2024, 1, 16, 7, 0));
+        List<ResolvedScheduleView> banned = List.of(view(10L, 100L, false, true));
+        when(scheduleRepository.findSignature()).thenReturn(changed);
+        when(scheduleRepository.findAllResolved()).thenReturn(banned);
+        snapshotService.refreshIfChanged();
+
+        verify(scheduleRepository, times(2)).findAllResolved();
+        assertTrue(snapshotService.findByStudentId(100L).orElseThrow().isBanned());
+        assertTrue(snapshotService.findByStudentId(101L).isEmpty());
+    }
+
+    @Test
+    void snapshotThatNeverLoadedRejectsInsteadOfTreatingEveryoneAsUnscheduled() {
+        ScheduleSnapshotService notLoaded = new ScheduleSnapshotService(
+                scheduleRepository, shiftRepository, officeRepository, studentRepository);
+        when(scheduleRepository.findAllResolved()).thenThrow(new IllegalStateException("db down"));
+
+        notLoaded.loadOnStartup();
+
+        assertThrows(ServiceUnavailableException.class, () -> notLoaded.findByStudentId(100L));
+        assertThrows(ServiceUnavailableException.class,
+                () -> new CheckInPolicyService(notLoaded, geofenceService).apply(request(999L, "07:00")));
+        verify(geofenceService, never()).validateCheckIn(any());
+    }
+
+    @Test
+    void checkInAfterShiftStartIsLate() {
+        when(geofenceService.isWithinOffice(eq(1L), any(GeoPoint.class))).thenReturn(true);
+
+        assertFalse(policy.apply(request(100L, "07:00")));
+        assertTrue(policy.apply(request(100L, "07:05:30")));
+        verify(geofenceService, never()).validateCheckIn(any());
+    }
+
+    @Test
+    void nonWfaUserMustBeInsideScheduledOffice() {
+        when(geofenceService.isWithinOffice(anyLong(), any(GeoPoint.class))).thenReturn(false);
+
+        assertThrows(BadRequestException.class, () -> policy.apply(request(100L, "06:55")));
+    }
+
+    @Test
+    void wfaUserMayCheckInAnywhere() {
+        boolean late = policy.apply(request(101L, "06:55"));
+
+        verify(geofenceService, never()).isWithinOffice(anyLong(), any());
+        assertFalse(late);
+    }
+
+    @Test
+    void bannedUserIsRejected() {
+        assertThrows(AccessDeniedException.class, () -> policy.apply(request(102L, "06:55")));
+    }
+
+    @Test
+    void studentWithoutScheduleFallsBackToAnyActiveOffice() {
+        boolean late = policy.apply(request(999L, "09:00"));
+
+        verify(geofenceService).validateCheckIn("-6.2088,106.8456");
+        assertFalse(late);
+    }
+
+    @Test
+    void invalidTimeInIsRejected() {
+        when(geofenceService.isWithinOffice(anyLong(), any(GeoPoint.class))).thenReturn(true);
+
+        assertThrows(BadRequestException.class, () -> policy.apply(request(100L, "7 pagi")));
+    }
+
+    private static AttendanceRequest request(Long studentId, String timeIn) {
+        return AttendanceRequest.builder()
+                .studentId(studentId)
+                .date(LocalDate.of(2024, 1, 15))
+                .status("hadir")
+                .timeIn(timeIn)
+                .location("-6.2088,106.8456")
+                .type("regular")
+                .build();
+    }
+
+    private static ChangeSignatureView signature(long total, LocalDateTime lastUpdatedAt) {
+        ChangeSignatureView view = Mockito.mock(ChangeSignatureView.class);
+        when(view.getTotal()).thenReturn(total);
+        when(view.getLastUpdatedAt()).thenReturn(lastUpdatedAt);
+        return view;
+    }
+
+    private static ResolvedScheduleView view(Long userId, Long studentId, boolean wfa, boolean banned) {
+        ResolvedScheduleView view = Mockito.mock(ResolvedScheduleView.class);
+        when(view.getUserId()).thenReturn(userId);
+        when(view.getStudentId()).thenReturn(studentId);
+        when(view.getShiftId()).thenReturn(1L);
+        when(view.getShiftName()).thenReturn("Pagi");
+        when(view.getStartTime()).thenReturn(LocalTime.of(7, 0));
+        when(view.getEndTime()).thenReturn(LocalTime.of(15, 0));
+        when(view.getOfficeId()).thenReturn(1L);
+        when(view.getOfficeName()).thenReturn("SMK Negeri 1");
+        when(view.getWfa()).thenReturn(wfa);
+        when(view.getBanned()).thenReturn(banned);
+        return view;
+    }
+}